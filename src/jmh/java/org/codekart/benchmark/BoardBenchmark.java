@@ -0,0 +1,77 @@
+package org.codekart.benchmark;
+
+import org.codekart.models.BattleShip;
+import org.codekart.models.Board;
+import org.codekart.models.BoardType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Board construction, placement checks and fleet placement for each board type.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BoardBenchmark {
+    private static final int SHIP_SIZE = 4;
+
+    @Param({"64", "512", "2048"})
+    private int boardSize;
+
+    @Param({"GRID", "BITSET"})
+    private BoardType boardType;
+
+    private Board halfFilledBoard;
+    private int probe;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Fill every other ship-sized slot so probes hit a mix of free and taken squares
+        halfFilledBoard = boardType.create(boardSize);
+        int slot = 0;
+        for (int x = 0; x + SHIP_SIZE <= boardSize; x += SHIP_SIZE) {
+            for (int y = 0; y + SHIP_SIZE <= boardSize; y += SHIP_SIZE) {
+                if (slot++ % 2 == 0) {
+                    Board board = halfFilledBoard;
+                    board.placeShip(new BattleShip("S" + slot, SHIP_SIZE, board.getTerritoryOwner(x)), x, y);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public Board construct() {
+        return boardType.create(boardSize);
+    }
+
+    @Benchmark
+    public boolean canPlaceShip() {
+        int cells = boardSize - SHIP_SIZE;
+        int p = probe = (probe + 7919) % (cells * cells);
+        return halfFilledBoard.canPlaceShip(p / cells, p % cells, SHIP_SIZE);
+    }
+
+    /**
+     * Constructs a board and places 64 ships on it; compare with {@link #construct()}.
+     */
+    @Benchmark
+    public void constructAndPlaceFleet(Blackhole blackhole) {
+        Board board = boardType.create(boardSize);
+        int step = boardSize / 8;
+        for (int i = 0; i < 8; i++) {
+            for (int j = 0; j < 8; j++) {
+                int x = i * step;
+                int y = j * step;
+                if (board.canPlaceShip(x, y, SHIP_SIZE)) {
+                    board.placeShip(new BattleShip("S", SHIP_SIZE, board.getTerritoryOwner(x)), x, y);
+                }
+            }
+        }
+        blackhole.consume(board);
+    }
+}
@@ -0,0 +1,84 @@
+package org.codekart.benchmark;
+
+import org.codekart.service.FiringStrategy;
+import org.codekart.service.RandomFiringStrategy;
+import org.codekart.service.ShuffledFiringStrategy;
+import org.codekart.service.SystematicFiringStrategy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Cost of choosing a target, early in a game and once nearly the whole opponent
+ * territory has been fired at. Every invocation times a window of shots; scores
+ * are per shot.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FiringStrategyBenchmark {
+    private static final int BOARD_SIZE = 256;
+    private static final int WINDOW = 256;
+
+    public enum StrategyKind {
+        RANDOM(RandomFiringStrategy::new),
+        SYSTEMATIC(SystematicFiringStrategy::new),
+        SHUFFLED(ShuffledFiringStrategy::new);
+
+        private final Supplier<FiringStrategy> factory;
+
+        StrategyKind(Supplier<FiringStrategy> factory) {
+            this.factory = factory;
+        }
+    }
+
+    public enum Phase {
+        EARLY,
+        LATE
+    }
+
+    @Param({"RANDOM", "SYSTEMATIC", "SHUFFLED"})
+    private StrategyKind strategyKind;
+
+    @Param({"EARLY", "LATE"})
+    private Phase phase;
+
+    private FiringStrategy strategy;
+
+    @Setup(Level.Trial)
+    public void createStrategy() {
+        strategy = strategyKind.factory.get();
+    }
+
+    @Setup(Level.Invocation)
+    public void advanceToPhase() {
+        strategy.reset();
+        if (phase == Phase.LATE) {
+            int territory = BOARD_SIZE / 2 * BOARD_SIZE;
+            for (int i = 0; i < territory - WINDOW; i++) {
+                strategy.getPackedStrikeCoordinates("A", BOARD_SIZE);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(WINDOW)
+    public void packed(Blackhole blackhole) {
+        for (int i = 0; i < WINDOW; i++) {
+            blackhole.consume(strategy.getPackedStrikeCoordinates("A", BOARD_SIZE));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(WINDOW)
+    public void pair(Blackhole blackhole) {
+        for (int i = 0; i < WINDOW; i++) {
+            blackhole.consume(strategy.getStrikeCoordinates("A", BOARD_SIZE));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.codekart.benchmark;
+
+import org.codekart.events.GameEventListener;
+import org.codekart.models.BoardType;
+import org.codekart.service.GameService;
+import org.codekart.service.ShuffledFiringStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end {@code GameService.playFullGame} with console output switched off.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FullGameBenchmark {
+
+    @Param({"16", "64", "256"})
+    private int boardSize;
+
+    @Param({"GRID", "BITSET"})
+    private BoardType boardType;
+
+    private GameService gameService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        gameService = new GameService(ShuffledFiringStrategy::new);
+        gameService.setEventListener(GameEventListener.NO_OP);
+    }
+
+    @Benchmark
+    public int playFullGame() {
+        String gameId = gameService.initGame(boardSize, boardType);
+        int quarter = boardSize / 4;
+        gameService.addShip(gameId, "SH1", 2, 1, 1, boardSize / 2 + 1, 1);
+        gameService.addShip(gameId, "SH2", 2, quarter, quarter, boardSize / 2 + quarter, quarter);
+        gameService.playFullGame(gameId);
+        int turns = gameService.getGame(gameId).getTurnCount();
+        gameService.removeGame(gameId);
+        return turns;
+    }
+}
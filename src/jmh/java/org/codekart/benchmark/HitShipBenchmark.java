@@ -0,0 +1,57 @@
+package org.codekart.benchmark;
+
+import org.codekart.models.BoardType;
+import org.codekart.models.Game;
+import org.codekart.models.Player;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code Game.hitShip} throughput. Every invocation fires a volley of shots that
+ * alternate between the players into a freshly set up game; scores are per shot.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HitShipBenchmark {
+    private static final int BOARD_SIZE = 128;
+    private static final int SHOTS = 4096;
+
+    @Param({"GRID", "BITSET"})
+    private BoardType boardType;
+
+    private Game game;
+    private Player playerA;
+    private Player playerB;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        game = new Game("bench", boardType.create(BOARD_SIZE));
+        // Eight ships sit inside the volley so it mixes hits, sinks and misses; one
+        // more sits outside it so the game never ends mid-volley
+        for (int i = 0; i < 8; i++) {
+            game.addShip("SH" + i, 4, 2, 2 + i * 8, 66, 2 + i * 8);
+        }
+        game.addShip("FAR", 4, 60, 60, 124, 60);
+        game.startGame();
+        playerA = game.getBoard().getPlayers().get(0);
+        playerB = game.getBoard().getPlayers().get(1);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SHOTS)
+    public void hitShip(Blackhole blackhole) {
+        int half = BOARD_SIZE / 2;
+        for (int i = 0; i < SHOTS / 2; i++) {
+            int x = i / BOARD_SIZE;
+            int y = i % BOARD_SIZE;
+            blackhole.consume(game.hitShip(playerA, half + x, y));
+            blackhole.consume(game.hitShip(playerB, x, y));
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.codekart;
 
 import org.codekart.service.GameService;
 import org.codekart.service.RandomFiringStrategy;
+import java.nio.file.Path;
 
 
 public class Main {
@@ -10,20 +11,26 @@ public class Main {
         System.out.println("=== Battleship Game ===");
         
         // Initialize game service with random firing strategy
-        GameService gameService = new GameService(new RandomFiringStrategy());
+        GameService gameService = new GameService(RandomFiringStrategy::new);
         
         try {
-            // Initialize game with 6x6 board
-            String gameId = gameService.initGame(6);
-            System.out.println("Game initialized with ID: " + gameId);
-            
-            // Add ships for both players
-            boolean shipAdded = gameService.addShip("SH1", 2, 1, 2, 4, 2);
-            if (shipAdded) {
-                System.out.println("Ship SH1 added successfully");
+            if (args.length > 0) {
+                // Board and fleet come from a scenario file
+                String gameId = gameService.loadScenario(Path.of(args[0]));
+                System.out.println("Game initialized with ID: " + gameId + " from " + args[0]);
             } else {
-                System.out.println("Failed to add ship SH1");
-                return;
+                // Initialize game with 6x6 board
+                String gameId = gameService.initGame(6);
+                System.out.println("Game initialized with ID: " + gameId);
+
+                // Add ships for both players
+                boolean shipAdded = gameService.addShip("SH1", 2, 1, 2, 4, 2);
+                if (shipAdded) {
+                    System.out.println("Ship SH1 added successfully");
+                } else {
+                    System.out.println("Failed to add ship SH1");
+                    return;
+                }
             }
             
             // View battlefield
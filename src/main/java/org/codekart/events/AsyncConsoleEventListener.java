@@ -0,0 +1,171 @@
+package org.codekart.events;
+
+import org.codekart.models.BattleShip;
+import org.codekart.models.Game;
+import org.codekart.models.Player;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Console listener that moves formatting and writing off the game thread.
+ *
+ * <p>Callbacks only capture the event into a bounded queue. A daemon thread drains
+ * the queue in batches, formats each batch into one buffer and writes it with a
+ * single call. Callbacks never block the game: when the queue is full the event
+ * is dropped and counted, and the writer notes how many were lost in the output.
+ * {@link #close()} flushes whatever is still queued; events after that are
+ * ignored.
+ */
+public class AsyncConsoleEventListener implements GameEventListener, AutoCloseable {
+    private static final int DEFAULT_CAPACITY = 8192;
+    private static final int DEFAULT_BATCH_SIZE = 512;
+
+    private final PrintStream out;
+    private final BlockingQueue<Event> queue;
+    private final int batchSize;
+    private final Thread writer;
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private volatile boolean closed;
+
+    public AsyncConsoleEventListener() {
+        this(System.out, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE);
+    }
+
+    public AsyncConsoleEventListener(PrintStream out, int capacity, int batchSize) {
+        if (capacity <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Capacity and batch size must be positive");
+        }
+        this.out = out;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.writer = new Thread(this::drainLoop, "game-event-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void onGameStarted(Game game) {
+        enqueue(new Event(Kind.STARTED, game.getCurrentPlayer().getName(), null, null, 0, 0, 0, 0));
+    }
+
+    @Override
+    public void onHit(Game game, Player attacker, int x, int y, BattleShip ship) {
+        enqueue(new Event(Kind.HIT, attacker.getName(), ship.getOwner().getName(), ship.getId(), x, y, 0, 0));
+    }
+
+    @Override
+    public void onMiss(Game game, Player attacker, int x, int y) {
+        enqueue(new Event(Kind.MISS, attacker.getName(), null, null, x, y, 0, 0));
+    }
+
+    @Override
+    public void onGameOver(Game game, Player winner) {
+        enqueue(new Event(Kind.GAME_OVER, winner.getName(), null, null, 0, 0, 0, 0));
+    }
+
+    @Override
+    public void onTurnEnded(Game game) {
+        List<Player> players = game.getBoard().getPlayers();
+        if (players.size() != 2) {
+            // Free-for-all counts do not fit the event; format them now instead
+            String line = EventMessages.shipsRemaining(new StringBuilder(), players).toString();
+            enqueue(new Event(Kind.LINE, line, null, null, 0, 0, 0, 0));
+            return;
+        }
+        Player playerA = players.get(0);
+        Player playerB = players.get(1);
+        // Counts are captured now; they will have moved on by the time the batch is written
+        enqueue(new Event(Kind.SHIPS_REMAINING, playerA.getName(), playerB.getName(), null, 0, 0,
+                playerA.getAliveShipCount(), playerB.getAliveShipCount()));
+    }
+
+    /**
+     * Returns how many events were dropped because the writer fell behind.
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    private void enqueue(Event event) {
+        if (!closed && !queue.offer(event)) {
+            droppedEvents.incrementAndGet();
+        }
+    }
+
+    private void drainLoop() {
+        List<Event> batch = new ArrayList<>(batchSize);
+        StringBuilder buffer = new StringBuilder();
+        long reportedDrops = 0;
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                boolean stop = false;
+                for (Event event : batch) {
+                    if (event.kind == Kind.STOP) {
+                        stop = true;
+                    } else {
+                        format(buffer, event).append(System.lineSeparator());
+                    }
+                }
+                long drops = droppedEvents.get();
+                if (drops != reportedDrops) {
+                    buffer.append("... ").append(drops - reportedDrops)
+                            .append(" events dropped, output fell behind").append(System.lineSeparator());
+                    reportedDrops = drops;
+                }
+                out.print(buffer);
+                out.flush();
+                buffer.setLength(0);
+                batch.clear();
+                if (stop) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static StringBuilder format(StringBuilder buffer, Event event) {
+        return switch (event.kind) {
+            case STARTED -> EventMessages.gameStarted(buffer, event.first);
+            case HIT -> EventMessages.hit(buffer, event.first, event.x, event.y, event.second, event.shipId);
+            case MISS -> EventMessages.miss(buffer, event.first, event.x, event.y);
+            case GAME_OVER -> EventMessages.gameOver(buffer, event.first);
+            case SHIPS_REMAINING -> EventMessages.shipsRemaining(buffer, event.first, event.countA,
+                    event.second, event.countB);
+            case LINE -> buffer.append(event.first);
+            case STOP -> buffer;
+        };
+    }
+
+    /**
+     * Writes out every queued event and stops the writer thread.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            queue.put(new Event(Kind.STOP, null, null, null, 0, 0, 0, 0));
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private enum Kind {
+        STARTED, HIT, MISS, GAME_OVER, SHIPS_REMAINING, LINE, STOP
+    }
+
+    private record Event(Kind kind, String first, String second, String shipId,
+                         int x, int y, int countA, int countB) {
+    }
+}
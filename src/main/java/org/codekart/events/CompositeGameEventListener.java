@@ -0,0 +1,79 @@
+package org.codekart.events;
+
+import org.codekart.models.BattleShip;
+import org.codekart.models.Game;
+import org.codekart.models.Player;
+
+/**
+ * Forwards every event to a fixed list of listeners, in order.
+ */
+final class CompositeGameEventListener implements GameEventListener {
+    private final GameEventListener[] listeners;
+
+    CompositeGameEventListener(GameEventListener[] listeners) {
+        this.listeners = listeners.clone();
+    }
+
+    @Override
+    public void onShipAdded(Game game, String shipId, int size, int posX1, int posY1, int posX2, int posY2) {
+        for (GameEventListener listener : listeners) {
+            listener.onShipAdded(game, shipId, size, posX1, posY1, posX2, posY2);
+        }
+    }
+
+    @Override
+    public void onShipAdded(Game game, Player owner, String shipId, int size, int centerX, int centerY) {
+        for (GameEventListener listener : listeners) {
+            listener.onShipAdded(game, owner, shipId, size, centerX, centerY);
+        }
+    }
+
+    @Override
+    public void onGameStarted(Game game) {
+        for (GameEventListener listener : listeners) {
+            listener.onGameStarted(game);
+        }
+    }
+
+    @Override
+    public void onShotFired(Game game, Player attacker, int x, int y) {
+        for (GameEventListener listener : listeners) {
+            listener.onShotFired(game, attacker, x, y);
+        }
+    }
+
+    @Override
+    public void onHit(Game game, Player attacker, int x, int y, BattleShip ship) {
+        for (GameEventListener listener : listeners) {
+            listener.onHit(game, attacker, x, y, ship);
+        }
+    }
+
+    @Override
+    public void onMiss(Game game, Player attacker, int x, int y) {
+        for (GameEventListener listener : listeners) {
+            listener.onMiss(game, attacker, x, y);
+        }
+    }
+
+    @Override
+    public void onShipSunk(Game game, BattleShip ship) {
+        for (GameEventListener listener : listeners) {
+            listener.onShipSunk(game, ship);
+        }
+    }
+
+    @Override
+    public void onGameOver(Game game, Player winner) {
+        for (GameEventListener listener : listeners) {
+            listener.onGameOver(game, winner);
+        }
+    }
+
+    @Override
+    public void onTurnEnded(Game game) {
+        for (GameEventListener listener : listeners) {
+            listener.onTurnEnded(game);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.codekart.events;
+
+import org.codekart.models.BattleShip;
+import org.codekart.models.Game;
+import org.codekart.models.Player;
+import java.io.PrintStream;
+
+/**
+ * Prints every turn to a stream as it happens, one {@code println} per event.
+ */
+public class ConsoleEventListener implements GameEventListener {
+    private final PrintStream out;
+
+    public ConsoleEventListener() {
+        this(System.out);
+    }
+
+    public ConsoleEventListener(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void onGameStarted(Game game) {
+        out.println(EventMessages.gameStarted(new StringBuilder(), game.getCurrentPlayer().getName()));
+    }
+
+    @Override
+    public void onHit(Game game, Player attacker, int x, int y, BattleShip ship) {
+        out.println(EventMessages.hit(new StringBuilder(), attacker.getName(), x, y,
+                ship.getOwner().getName(), ship.getId()));
+    }
+
+    @Override
+    public void onMiss(Game game, Player attacker, int x, int y) {
+        out.println(EventMessages.miss(new StringBuilder(), attacker.getName(), x, y));
+    }
+
+    @Override
+    public void onGameOver(Game game, Player winner) {
+        out.println(EventMessages.gameOver(new StringBuilder(), winner.getName()));
+    }
+
+    @Override
+    public void onTurnEnded(Game game) {
+        out.println(EventMessages.shipsRemaining(new StringBuilder(), game.getBoard().getPlayers()));
+    }
+}
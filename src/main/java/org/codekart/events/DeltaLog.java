@@ -0,0 +1,248 @@
+package org.codekart.events;
+
+import org.codekart.models.BattleShip;
+import org.codekart.models.Game;
+import org.codekart.models.Player;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Versioned stream of compact binary battlefield updates for one game, so viewers
+ * follow a game at a cost proportional to its moves instead of its area.
+ *
+ * <p>Attach the log to a game as a listener. Every event becomes one
+ * {@value #RECORD_SIZE}-byte record and bumps the version by one, starting from
+ * 0 for an empty log. The latest {@code capacity} records are kept in a ring
+ * that starts at {@value #DEFAULT_CAPACITY} records and doubles as the game
+ * writes more, so memory follows the moves actually played; viewers call {@link #readSince(long, ByteBuffer)} with the last version they
+ * applied and get the records after it. A viewer that falls more than
+ * {@code capacity} records behind gets {@link #SNAPSHOT_REQUIRED} and has to
+ * start over from a full view of the game.
+ *
+ * <p>Record layout: {@code byte type, byte player, short 0, int a, int b, int c}.
+ * <pre>
+ * STARTED   player = first to move
+ * HIT, MISS player = attacker, a = x, b = y, c = turn count
+ * SUNK      player = owner, a = start x, b = start y, c = ship size
+ * TURN      player = next to move, c = turn count
+ * GAME_OVER player = winner, c = turn count
+ * </pre>
+ * Players travel as their index on the board. Applying a record twice has the
+ * same effect as applying it once, so a viewer may read {@link #getVersion()},
+ * take a full view and then resume from that version.
+ *
+ * <p>Records are appended by the thread playing the game. Any number of other
+ * threads may read at the same time without blocking it: reads copy
+ * optimistically and retry if an append landed during the copy.
+ */
+public class DeltaLog implements GameEventListener {
+    public static final int RECORD_SIZE = 16;
+    public static final int DEFAULT_CAPACITY = 256;
+    // 1 GB of records, the most one heap buffer can hold in whole powers of two
+    public static final int MAX_CAPACITY = 1 << 26;
+    public static final long SNAPSHOT_REQUIRED = -1;
+
+    public static final byte STARTED = 1;
+    public static final byte HIT = 2;
+    public static final byte MISS = 3;
+    public static final byte SUNK = 4;
+    public static final byte TURN = 5;
+    public static final byte GAME_OVER = 6;
+
+    // Grows until it holds capacity records; only then do old records get overwritten
+    private ByteBuffer ring;
+    private final int capacity;
+    private final StampedLock lock = new StampedLock();
+    private long version;
+
+    public DeltaLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public DeltaLog(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must not exceed " + MAX_CAPACITY);
+        }
+        this.capacity = capacity;
+        this.ring = ByteBuffer.allocate(Math.min(capacity, DEFAULT_CAPACITY) * RECORD_SIZE);
+    }
+
+    /**
+     * Returns a capacity that holds every record a game on a
+     * {@code boardSize x boardSize} board can write, so a viewer only needs a full
+     * view when it first connects. A square that was hit rejects further shots, so
+     * every square is fired at most once, and a shot writes a HIT or MISS, at most
+     * one SUNK and a TURN or GAME_OVER: three records per square plus the start.
+     * The ring only grows that far if the game really plays that many shots.
+     * Boards wider than about 4,700 squares are capped at {@value #MAX_CAPACITY}.
+     */
+    public static int capacityFor(int boardSize) {
+        long records = 3L * boardSize * boardSize + 1;
+        return (int) Math.min(MAX_CAPACITY, records);
+    }
+
+    @FunctionalInterface
+    public interface Visitor {
+        void visit(long version, byte type, int player, int a, int b, int c);
+    }
+
+    @Override
+    public void onGameStarted(Game game) {
+        append(STARTED, playerIndex(game, game.getCurrentPlayer()), 0, 0, 0);
+    }
+
+    @Override
+    public void onHit(Game game, Player attacker, int x, int y, BattleShip ship) {
+        append(HIT, playerIndex(game, attacker), x, y, game.getTurnCount());
+        appendTurnIfOngoing(game);
+    }
+
+    @Override
+    public void onMiss(Game game, Player attacker, int x, int y) {
+        append(MISS, playerIndex(game, attacker), x, y, game.getTurnCount());
+        appendTurnIfOngoing(game);
+    }
+
+    @Override
+    public void onShipSunk(Game game, BattleShip ship) {
+        append(SUNK, playerIndex(game, ship.getOwner()), ship.getStartX(), ship.getStartY(), ship.getSize());
+    }
+
+    @Override
+    public void onGameOver(Game game, Player winner) {
+        append(GAME_OVER, playerIndex(game, winner), 0, 0, game.getTurnCount());
+    }
+
+    // Listeners run after the move is applied, so the turn has already passed
+    private void appendTurnIfOngoing(Game game) {
+        if (!game.isGameFinished()) {
+            append(TURN, playerIndex(game, game.getCurrentPlayer()), 0, 0, game.getTurnCount());
+        }
+    }
+
+    private void append(byte type, int player, int a, int b, int c) {
+        long stamp = lock.writeLock();
+        try {
+            int records = ring.capacity() / RECORD_SIZE;
+            if (version == records && records < capacity) {
+                // Nothing has wrapped yet, so the records keep their offsets
+                ByteBuffer grown = ByteBuffer.allocate(Math.min(capacity, records * 2) * RECORD_SIZE);
+                grown.put(0, ring, 0, ring.capacity());
+                ring = grown;
+                records = grown.capacity() / RECORD_SIZE;
+            }
+            int offset = (int) (version % records) * RECORD_SIZE;
+            ring.put(offset, type);
+            ring.put(offset + 1, (byte) player);
+            ring.putShort(offset + 2, (short) 0);
+            ring.putInt(offset + 4, a);
+            ring.putInt(offset + 8, b);
+            ring.putInt(offset + 12, c);
+            version++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the version of the latest record.
+     */
+    public long getVersion() {
+        long stamp = lock.tryOptimisticRead();
+        long latest = version;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                latest = version;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Copies the records after {@code sinceVersion} into {@code out}, as many as
+     * fit, and advances its position past them. The first record copied has
+     * version {@code sinceVersion + 1}.
+     *
+     * @return the version of the last record copied ({@code sinceVersion} if
+     *         there was nothing new), or {@link #SNAPSHOT_REQUIRED} if records
+     *         after {@code sinceVersion} have already been overwritten
+     * @throws IllegalArgumentException if {@code sinceVersion} is negative or
+     *                                  ahead of the log
+     */
+    public long readSince(long sinceVersion, ByteBuffer out) {
+        if (sinceVersion < 0) {
+            throw new IllegalArgumentException("Version must not be negative: " + sinceVersion);
+        }
+        int start = out.position();
+        while (true) {
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0) {
+                long latest = version;
+                ByteBuffer ring = this.ring;
+                int records = ring.capacity() / RECORD_SIZE;
+                long result;
+                int count = 0;
+                if (sinceVersion > latest) {
+                    result = Long.MIN_VALUE;
+                } else if (latest - sinceVersion > records) {
+                    result = SNAPSHOT_REQUIRED;
+                } else {
+                    count = (int) Math.min(latest - sinceVersion, out.remaining() / RECORD_SIZE);
+                    for (int i = 0; i < count; i++) {
+                        int offset = (int) ((sinceVersion + i) % records) * RECORD_SIZE;
+                        out.put(start + i * RECORD_SIZE, ring, offset, RECORD_SIZE);
+                    }
+                    result = sinceVersion + count;
+                }
+                if (lock.validate(stamp)) {
+                    if (result == Long.MIN_VALUE) {
+                        throw new IllegalArgumentException("Version " + sinceVersion + " is ahead of the log");
+                    }
+                    out.position(start + count * RECORD_SIZE);
+                    return result;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Walks records laid out by {@link #readSince(long, ByteBuffer)} from the
+     * position of {@code records} to its limit.
+     *
+     * @param firstVersion version of the first record, {@code sinceVersion + 1}
+     */
+    public static void decode(ByteBuffer records, long firstVersion, Visitor visitor) {
+        long next = firstVersion;
+        while (records.remaining() >= RECORD_SIZE) {
+            byte type = records.get();
+            int player = records.get();
+            records.getShort();
+            visitor.visit(next++, type, player, records.getInt(), records.getInt(), records.getInt());
+        }
+    }
+
+    /**
+     * Returns the most records the log keeps; the ring grows to it on demand.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private static int playerIndex(Game game, Player player) {
+        List<Player> players = game.getBoard().getPlayers();
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i) == player) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Player " + player.getId() + " is not part of game " + game.getGameId());
+    }
+}
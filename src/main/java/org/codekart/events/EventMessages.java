@@ -0,0 +1,49 @@
+package org.codekart.events;
+
+import org.codekart.models.Player;
+import java.util.List;
+
+/**
+ * Console wording of game events, shared by the synchronous and asynchronous
+ * console listeners.
+ */
+final class EventMessages {
+
+    private EventMessages() {
+    }
+
+    static StringBuilder gameStarted(StringBuilder out, String firstPlayer) {
+        return out.append("Game started! ").append(firstPlayer).append(" goes first.");
+    }
+
+    static StringBuilder hit(StringBuilder out, String attacker, int x, int y, String defender, String shipId) {
+        return out.append(attacker).append("'s turn: Missile fired at (").append(x).append(", ").append(y)
+                .append("). \"Hit\". ").append(defender).append("'s ship with id \"").append(shipId)
+                .append("\" destroyed.");
+    }
+
+    static StringBuilder miss(StringBuilder out, String attacker, int x, int y) {
+        return out.append(attacker).append("'s turn: Missile fired at (").append(x).append(", ").append(y)
+                .append("). \"Miss\"");
+    }
+
+    static StringBuilder gameOver(StringBuilder out, String winner) {
+        return out.append("GameOver. ").append(winner).append(" wins.");
+    }
+
+    static StringBuilder shipsRemaining(StringBuilder out, String playerA, int aliveA, String playerB, int aliveB) {
+        return out.append("Ships Remaining - ").append(playerA).append(':').append(aliveA)
+                .append(", ").append(playerB).append(':').append(aliveB);
+    }
+
+    static StringBuilder shipsRemaining(StringBuilder out, List<Player> players) {
+        out.append("Ships Remaining - ");
+        for (int i = 0; i < players.size(); i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            out.append(players.get(i).getName()).append(':').append(players.get(i).getAliveShipCount());
+        }
+        return out;
+    }
+}
@@ -0,0 +1,66 @@
+package org.codekart.events;
+
+import org.codekart.models.BattleShip;
+import org.codekart.models.Game;
+import org.codekart.models.Player;
+
+/**
+ * Receives typed notifications as a game progresses. Every method defaults to
+ * doing nothing, so listeners only override the events they care about.
+ *
+ * <p>Callbacks run on the thread that plays the turn and must not block.
+ */
+public interface GameEventListener {
+
+    /**
+     * Listener that ignores every event. Games use it unless told otherwise.
+     */
+    GameEventListener NO_OP = new GameEventListener() {
+    };
+
+    /**
+     * Called after {@link Game#addShip} placed a ship for both players, with the
+     * arguments it was called with.
+     */
+    default void onShipAdded(Game game, String shipId, int size, int posX1, int posY1, int posX2, int posY2) {
+    }
+
+    /**
+     * Called after {@link Game#addShip(Player, String, int, int, int)} placed one
+     * ship for {@code owner}, with the arguments it was called with.
+     */
+    default void onShipAdded(Game game, Player owner, String shipId, int size, int centerX, int centerY) {
+    }
+
+    default void onGameStarted(Game game) {
+    }
+
+    default void onShotFired(Game game, Player attacker, int x, int y) {
+    }
+
+    default void onHit(Game game, Player attacker, int x, int y, BattleShip ship) {
+    }
+
+    default void onMiss(Game game, Player attacker, int x, int y) {
+    }
+
+    default void onShipSunk(Game game, BattleShip ship) {
+    }
+
+    default void onGameOver(Game game, Player winner) {
+    }
+
+    /**
+     * Called by the service after a full turn has been played.
+     */
+    default void onTurnEnded(Game game) {
+    }
+
+    /**
+     * Returns a listener that forwards every event to each of the given listeners
+     * in order.
+     */
+    static GameEventListener compose(GameEventListener... listeners) {
+        return listeners.length == 1 ? listeners[0] : new CompositeGameEventListener(listeners);
+    }
+}
@@ -0,0 +1,197 @@
+package org.codekart.metrics;
+
+import org.codekart.events.GameEventListener;
+import org.codekart.models.BattleShip;
+import org.codekart.models.Game;
+import org.codekart.models.Player;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Engine-wide counters and latency histograms.
+ *
+ * <p>Game counters come in as a {@link GameEventListener}, so they cover every
+ * shot however it was fired; {@code GameService} attaches the metrics to each game
+ * it creates and records the latencies and per-strategy figures around its own
+ * calls. All recording goes through {@link LongAdder}s and is lock-free. Read the
+ * figures through the getters or over JMX after {@link #register(String)}.
+ */
+public class GameMetrics implements GameEventListener, GameMetricsMXBean {
+    public static final String UNNAMED_STRATEGY = "unnamed";
+
+    private final LongAdder gamesCreated = new LongAdder();
+    private final LongAdder gamesStarted = new LongAdder();
+    private final LongAdder gamesFinished = new LongAdder();
+    private final LongAdder shots = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder shipsSunk = new LongAdder();
+    private final LatencyHistogram hitShipLatency = new LatencyHistogram();
+    private final LatencyHistogram playTurnLatency = new LatencyHistogram();
+    private final LatencyHistogram strikeCoordinatesLatency = new LatencyHistogram();
+    private final Map<String, StrategyMetrics> strategies = new ConcurrentHashMap<>();
+
+    public void recordGameCreated() {
+        gamesCreated.increment();
+    }
+
+    public void recordHitShip(long nanos) {
+        hitShipLatency.record(nanos);
+    }
+
+    public void recordPlayTurn(long nanos) {
+        playTurnLatency.record(nanos);
+    }
+
+    public void recordStrikeCoordinates(long nanos) {
+        strikeCoordinatesLatency.record(nanos);
+    }
+
+    /**
+     * Returns the metrics of the named strategy, creating them on first use.
+     * Callers on the turn loop should keep the result rather than look it up per
+     * shot. Strategies without a name share the {@value #UNNAMED_STRATEGY} entry.
+     */
+    public StrategyMetrics forStrategy(String strategyName) {
+        String key = strategyName == null ? UNNAMED_STRATEGY : strategyName;
+        return strategies.computeIfAbsent(key, name -> new StrategyMetrics());
+    }
+
+    @Override
+    public void onGameStarted(Game game) {
+        gamesStarted.increment();
+    }
+
+    @Override
+    public void onShotFired(Game game, Player attacker, int x, int y) {
+        shots.increment();
+    }
+
+    @Override
+    public void onHit(Game game, Player attacker, int x, int y, BattleShip ship) {
+        hits.increment();
+    }
+
+    @Override
+    public void onMiss(Game game, Player attacker, int x, int y) {
+        misses.increment();
+    }
+
+    @Override
+    public void onShipSunk(Game game, BattleShip ship) {
+        shipsSunk.increment();
+    }
+
+    @Override
+    public void onGameOver(Game game, Player winner) {
+        gamesFinished.increment();
+    }
+
+    @Override
+    public long getGamesCreated() {
+        return gamesCreated.sum();
+    }
+
+    @Override
+    public long getGamesStarted() {
+        return gamesStarted.sum();
+    }
+
+    @Override
+    public long getGamesFinished() {
+        return gamesFinished.sum();
+    }
+
+    @Override
+    public long getShots() {
+        return shots.sum();
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getShipsSunk() {
+        return shipsSunk.sum();
+    }
+
+    @Override
+    public LatencySummary getHitShipLatency() {
+        return hitShipLatency.summary();
+    }
+
+    @Override
+    public LatencySummary getPlayTurnLatency() {
+        return playTurnLatency.summary();
+    }
+
+    @Override
+    public LatencySummary getStrikeCoordinatesLatency() {
+        return strikeCoordinatesLatency.summary();
+    }
+
+    @Override
+    public Map<String, StrategyMetrics> getStrategies() {
+        return new TreeMap<>(strategies);
+    }
+
+    @Override
+    public void reset() {
+        gamesCreated.reset();
+        gamesStarted.reset();
+        gamesFinished.reset();
+        shots.reset();
+        hits.reset();
+        misses.reset();
+        shipsSunk.reset();
+        hitShipLatency.reset();
+        playTurnLatency.reset();
+        strikeCoordinatesLatency.reset();
+        strategies.values().forEach(StrategyMetrics::reset);
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server as
+     * {@code org.codekart:type=GameMetrics,name=<name>}.
+     *
+     * @throws IllegalStateException if the name is taken or registration fails
+     */
+    public ObjectName register(String name) {
+        try {
+            ObjectName objectName = objectName(name);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register game metrics " + name, e);
+        }
+    }
+
+    public void unregister(String name) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = objectName(name);
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot unregister game metrics " + name, e);
+        }
+    }
+
+    private static ObjectName objectName(String name) throws JMException {
+        return new ObjectName("org.codekart:type=GameMetrics,name=" + ObjectName.quote(name));
+    }
+}
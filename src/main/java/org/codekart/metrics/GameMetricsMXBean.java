@@ -0,0 +1,32 @@
+package org.codekart.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link GameMetrics}. Latencies are in nanoseconds.
+ */
+public interface GameMetricsMXBean {
+    long getGamesCreated();
+
+    long getGamesStarted();
+
+    long getGamesFinished();
+
+    long getShots();
+
+    long getHits();
+
+    long getMisses();
+
+    long getShipsSunk();
+
+    LatencySummary getHitShipLatency();
+
+    LatencySummary getPlayTurnLatency();
+
+    LatencySummary getStrikeCoordinatesLatency();
+
+    Map<String, StrategyMetrics> getStrategies();
+
+    void reset();
+}
@@ -0,0 +1,63 @@
+package org.codekart.metrics;
+
+import org.codekart.models.ShotResult;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shot counters and targeting latency of one firing strategy, keyed in
+ * {@link GameMetrics} by {@code FiringStrategy.getStrategyName()}.
+ */
+public class StrategyMetrics {
+    private final LongAdder shots = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder shipsSunk = new LongAdder();
+    private final LatencyHistogram strikeLatency = new LatencyHistogram();
+
+    /**
+     * Records one targeting decision and the shot it led to.
+     */
+    public void recordShot(long strikeNanos, ShotResult result) {
+        strikeLatency.record(strikeNanos);
+        switch (result) {
+            case MISS -> misses.increment();
+            case HIT -> hits.increment();
+            case SUNK -> {
+                hits.increment();
+                shipsSunk.increment();
+            }
+            case REJECTED -> {
+                return;
+            }
+        }
+        shots.increment();
+    }
+
+    public long getShots() {
+        return shots.sum();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getShipsSunk() {
+        return shipsSunk.sum();
+    }
+
+    public LatencySummary getStrikeLatency() {
+        return strikeLatency.summary();
+    }
+
+    void reset() {
+        shots.reset();
+        hits.reset();
+        misses.reset();
+        shipsSunk.reset();
+        strikeLatency.reset();
+    }
+}
@@ -0,0 +1,60 @@
+package org.codekart.models;
+
+import java.io.IOException;
+
+/**
+ * Streams a board, or a rectangular window of it, to any {@link Appendable}.
+ *
+ * <p>Squares are read straight from the board primitives, so no {@link Cell}
+ * views are created. Rows are formatted into one reusable {@link StringBuilder}
+ * that is handed to the output whenever it grows past {@link #CHUNK_SIZE}
+ * characters, so a 2000x2000 board costs a few thousand appends rather than four
+ * million prints. An instance keeps its buffer between calls and must not be
+ * shared between threads.
+ */
+public class BattleFieldRenderer {
+    public static final int CHUNK_SIZE = 16 * 1024;
+
+    private static final String OPEN_WATER = "-- ";
+
+    private final StringBuilder buffer = new StringBuilder(CHUNK_SIZE + 256);
+
+    public void render(Board board, Appendable out) throws IOException {
+        render(board, out, 0, 0, board.getSize(), board.getSize());
+    }
+
+    /**
+     * Renders {@code rows x cols} squares starting at {@code (fromX, fromY)}; the
+     * window is clipped to the board.
+     */
+    public void render(Board board, Appendable out, int fromX, int fromY, int rows, int cols) throws IOException {
+        int startX = Math.max(0, fromX);
+        int startY = Math.max(0, fromY);
+        int endX = (int) Math.min(board.getSize(), (long) fromX + rows);
+        int endY = (int) Math.min(board.getSize(), (long) fromY + cols);
+
+        buffer.setLength(0);
+        for (int i = startX; i < endX; i++) {
+            for (int j = startY; j < endY; j++) {
+                BattleShip ship = board.isOccupied(i, j) ? board.getShipAt(i, j) : null;
+                if (ship != null) {
+                    buffer.append(board.getTerritoryOwner(i).getName()).append('-').append(ship.getId()).append(' ');
+                } else {
+                    buffer.append(OPEN_WATER);
+                }
+            }
+            buffer.append(System.lineSeparator());
+            if (buffer.length() >= CHUNK_SIZE) {
+                flush(out);
+            }
+        }
+        flush(out);
+    }
+
+    private void flush(Appendable out) throws IOException {
+        if (buffer.length() > 0) {
+            out.append(buffer);
+            buffer.setLength(0);
+        }
+    }
+}
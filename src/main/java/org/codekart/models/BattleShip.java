@@ -1,41 +1,146 @@
 package org.codekart.models;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import java.util.AbstractList;
 import java.util.List;
-import java.util.ArrayList;
 
+/**
+ * A ship is only equal to itself, since nothing keeps ship ids unique on a
+ * board. {@code toString} follows neither the board nor the owner, which point
+ * back at the ship.
+ *
+ * <p>A placed ship covers the {@code size x size} squares from its top-left
+ * corner. It keeps no cells of its own: {@link #getOccupiedCells()} asks the
+ * board for them when called.
+ */
 @Data
+@ToString(onlyExplicitlyIncluded = true)
 public class BattleShip {
+    @ToString.Include
     private String id;
+    @ToString.Include
     private int size;
+    @ToString.Include
     private boolean isDestroyed;
-    private List<Cell> occupiedCells;
     private Player owner;
+    // Occupied cells not hit yet, maintained by recordHit
+    @ToString.Include
+    private int remainingHits;
+    // Top-left corner, set when the ship is placed on a board
+    private int startX = -1;
+    private int startY = -1;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Board board;
 
     public BattleShip(String id, int size, Player owner) {
         this.id = id;
         this.size = size;
         this.isDestroyed = false;
-        this.occupiedCells = new ArrayList<>();
         this.owner = owner;
     }
 
+    // Called by Board#placeShip once the squares are marked occupied
+    void place(Board board, int startX, int startY) {
+        this.board = board;
+        this.startX = startX;
+        this.startY = startY;
+        checkAndUpdateDestroyedStatus();
+    }
+
+    /**
+     * Returns the squares the ship covers in row order, as cells fetched from the
+     * board on access. Empty until the ship is placed.
+     */
+    public List<Cell> getOccupiedCells() {
+        if (board == null) {
+            return List.of();
+        }
+        return new AbstractList<>() {
+            @Override
+            public Cell get(int index) {
+                if (index < 0 || index >= size()) {
+                    throw new IndexOutOfBoundsException(index);
+                }
+                return board.getCell(startX + index / size, startY + index % size);
+            }
+
+            @Override
+            public int size() {
+                return size * size;
+            }
+        };
+    }
+
+    /**
+     * Assigns the cell's square to this ship on the cell's board. The ship's
+     * squares follow from where it was placed, so this no longer adds to
+     * {@link #getOccupiedCells()}.
+     *
+     * @deprecated place the ship with {@link Board#placeShip} instead
+     */
+    @Deprecated
     public void addOccupiedCell(Cell cell) {
-        this.occupiedCells.add(cell);
-        cell.setOccupied(true);
+        cell.setShip(this);
+    }
+
+    /**
+     * Counts one hit on a previously unhit cell of this ship in O(1).
+     *
+     * @return {@code true} if this hit destroyed the ship
+     */
+    public boolean recordHit() {
+        if (isDestroyed || remainingHits == 0) {
+            return false;
+        }
+        remainingHits--;
+        if (remainingHits == 0) {
+            isDestroyed = true;
+            return true;
+        }
+        return false;
     }
 
     public boolean isDestroyed() {
         return isDestroyed;
     }
 
+    /**
+     * Recomputes the remaining-hit counter and destroyed flag from the board.
+     * The turn loop relies on {@link #recordHit()} instead.
+     */
     public void checkAndUpdateDestroyedStatus() {
-        this.isDestroyed = occupiedCells.stream().allMatch(Cell::isCellHit);
+        int unhit = 0;
+        if (board != null) {
+            for (int i = startX; i < startX + size; i++) {
+                for (int j = startY; j < startY + size; j++) {
+                    if (!board.isHit(i, j)) {
+                        unhit++;
+                    }
+                }
+            }
+        }
+        this.remainingHits = unhit;
+        this.isDestroyed = board != null && unhit == 0;
+    }
+
+    public int getRemainingHits() {
+        return remainingHits;
     }
 
     public boolean isHitAt(int x, int y) {
-        return occupiedCells.stream()
-                .anyMatch(cell -> cell.getX() == x && cell.getY() == y && cell.isCellHit());
+        return covers(x, y) && board.isHit(x, y);
+    }
+
+    /**
+     * Returns whether the placed ship covers the square.
+     */
+    public boolean covers(int x, int y) {
+        return board != null && x >= startX && x < startX + size && y >= startY && y < startY + size;
     }
 
     public int getSize() {
@@ -45,4 +150,19 @@ public class BattleShip {
     public String getId() {
         return id;
     }
-} 
\ No newline at end of file
+
+    @ToString.Include(name = "owner")
+    private String ownerId() {
+        return owner == null ? null : owner.getId();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+}
@@ -0,0 +1,179 @@
+package org.codekart.models;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.codekart.util.Bits;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact board that keeps occupancy and hit state in {@code long[]} bitsets and
+ * ship ownership in an {@code int[]} of ship ids, indexed by {@code x * size + y}.
+ *
+ * <p>No {@link Cell} objects are kept. {@link #getCell(int, int)} returns a fresh
+ * view whose reads and writes go straight to the bitsets. The arrays stay
+ * private; callers read the board through the {@link Board} methods.
+ */
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@ToString(callSuper = true, onlyExplicitlyIncluded = true)
+public class BitBoard extends Board {
+    private final long[] occupied;
+    private final long[] hits;
+    // 0 means open water, otherwise index + 1 into ships
+    private final int[] shipIds;
+    private final List<BattleShip> ships;
+    // Reverse of ships, so assigning a square to a known ship does not scan the list
+    private final Map<BattleShip, Integer> idsByShip;
+
+    public BitBoard(int N) {
+        this(N, 2);
+    }
+
+    public BitBoard(int N, int playerCount) {
+        super(N, playerCount);
+        if ((long) N * N > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Board size too large for a bitset board: " + N);
+        }
+        int area = N * N;
+        this.occupied = Bits.words(area);
+        this.hits = Bits.words(area);
+        this.shipIds = new int[area];
+        this.ships = new ArrayList<>();
+        this.idsByShip = new IdentityHashMap<>();
+    }
+
+    private int index(int x, int y) {
+        return x * getSize() + y;
+    }
+
+    @Override
+    public BoardType getType() {
+        return BoardType.BITSET;
+    }
+
+    @Override
+    public Cell getCell(int x, int y) {
+        if (!isValidPosition(x, y)) {
+            return null;
+        }
+        return new BoardCell(this, x, y, getTerritoryOwner(x));
+    }
+
+    @Override
+    public boolean canPlaceShip(int x, int y, int size) {
+        if (x < 0 || y < 0 || x + size > getSize() || y + size > getSize()) {
+            return false;
+        }
+
+        // One masked word test per 64 squares of each row
+        for (int i = x; i < x + size; i++) {
+            int rowStart = index(i, y);
+            if (Bits.anySet(occupied, rowStart, rowStart + size)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void placeShip(BattleShip ship, int startX, int startY) {
+        int shipId = idOf(ship);
+        for (int i = startX; i < startX + ship.getSize(); i++) {
+            int rowStart = index(i, startY);
+            Bits.setRange(occupied, rowStart, rowStart + ship.getSize());
+            Arrays.fill(shipIds, rowStart, rowStart + ship.getSize(), shipId);
+        }
+        ship.place(this, startX, startY);
+    }
+
+    @Override
+    public boolean isHit(int x, int y) {
+        return Bits.get(hits, index(x, y));
+    }
+
+    @Override
+    public boolean isOccupied(int x, int y) {
+        return Bits.get(occupied, index(x, y));
+    }
+
+    @Override
+    public BattleShip getShipAt(int x, int y) {
+        int index = index(x, y);
+        if (!Bits.get(occupied, index)) {
+            return null;
+        }
+        int shipId = shipIds[index];
+        return shipId == 0 ? null : ships.get(shipId - 1);
+    }
+
+    @Override
+    public boolean markHit(int x, int y) {
+        int index = index(x, y);
+        if (Bits.get(hits, index)) {
+            return false;
+        }
+        Bits.set(hits, index);
+        return true;
+    }
+
+    @Override
+    public void copyHitsTo(long[] words) {
+        System.arraycopy(hits, 0, words, 0, hits.length);
+    }
+
+    @Override
+    public void copyOccupancyTo(long[] words) {
+        System.arraycopy(occupied, 0, words, 0, occupied.length);
+    }
+
+    @Override
+    void clearSquares() {
+        Arrays.fill(occupied, 0L);
+        Arrays.fill(hits, 0L);
+        Arrays.fill(shipIds, 0);
+        ships.clear();
+        idsByShip.clear();
+    }
+
+    @Override
+    void setHit(int x, int y, boolean hit) {
+        if (hit) {
+            Bits.set(hits, index(x, y));
+        } else {
+            Bits.clear(hits, index(x, y));
+        }
+    }
+
+    @Override
+    void setOccupied(int x, int y, boolean occupied) {
+        if (occupied) {
+            Bits.set(this.occupied, index(x, y));
+        } else {
+            Bits.clear(this.occupied, index(x, y));
+        }
+    }
+
+    @Override
+    void setShipAt(int x, int y, BattleShip ship) {
+        if (ship == null) {
+            throw new IllegalArgumentException("Cannot assign a square to a null ship");
+        }
+        int index = index(x, y);
+        shipIds[index] = idOf(ship);
+        Bits.set(occupied, index);
+    }
+
+    // Returns the ship's id, registering it on first use
+    private int idOf(BattleShip ship) {
+        Integer shipId = idsByShip.get(ship);
+        if (shipId == null) {
+            ships.add(ship);
+            shipId = ships.size();
+            idsByShip.put(ship, shipId);
+        }
+        return shipId;
+    }
+}
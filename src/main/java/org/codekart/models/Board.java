@@ -1,88 +1,232 @@
 package org.codekart.models;
 
 import lombok.Data;
+import lombok.ToString;
+import org.codekart.util.Bits;
+import org.codekart.util.Coordinate;
+import org.codekart.util.PackedCoordinates;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
+/**
+ * Square battlefield whose rows are split into one territory per player, as laid
+ * out by {@link TerritoryLayout}. The default is two players: A on rows
+ * {@code 0..N/2-1} and B on rows {@code N/2..N-1}. Players are named A, B, C, ...
+ * in territory order.
+ *
+ * <p>Implementations decide how squares are stored. {@link GridBoard} keeps one
+ * {@link Cell} object per square, {@link BitBoard} keeps primitive bitsets and
+ * only hands out {@link Cell} views on request.
+ */
 @Data
-public class Board {
-    private Cell[][] grid;
+@ToString(onlyExplicitlyIncluded = true)
+public abstract class Board {
     private List<Player> players;
+    @ToString.Include
     private int size;
+    private final TerritoryLayout territoryLayout;
 
-    public Board(int N) {
+    protected Board(int N) {
+        this(N, 2);
+    }
+
+    protected Board(int N, int playerCount) {
         this.size = N;
-        this.grid = new Cell[N][N];
-        Player playerA = new Player("A", "PlayerA", 0, N / 2);
-        Player playerB = new Player("B", "PlayerB", N / 2, N);
-        this.players = new ArrayList<>();
-        players.add(playerA);
-        players.add(playerB);
-        initializeBoard();
-    }
-
-    private void initializeBoard() {
-        int N = size;
-        for (int i = 0; i < N; i++) {
-            for (int j = 0; j < N; j++) {
-                Player owner;
-                if (i < N / 2) {
-                    owner = players.get(0); // Player A
-                } else {
-                    owner = players.get(1); // Player B
-                }
-                grid[i][j] = new Cell(i, j, owner);
-            }
+        this.territoryLayout = TerritoryLayout.of(N, playerCount);
+        this.players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            String id = String.valueOf((char) ('A' + i));
+            players.add(new Player(id, "Player" + id, territoryLayout.getStartRow(i), territoryLayout.getEndRow(i)));
         }
     }
 
-    public Cell getCell(int x, int y) {
-        if (x < 0 || x >= size || y < 0 || y >= size) {
-            return null;
-        }
-        return grid[x][y];
+    @ToString.Include
+    public abstract BoardType getType();
+
+    public abstract Cell getCell(int x, int y);
+
+    /**
+     * {@link #getCell(int, int)} for a coordinate packed with {@link PackedCoordinates}.
+     */
+    public Cell getCell(long packedCoordinate) {
+        return getCell(PackedCoordinates.x(packedCoordinate), PackedCoordinates.y(packedCoordinate));
     }
 
-    public boolean isValidPosition(int x, int y) {
-        return x >= 0 && x < size && y >= 0 && y < size;
+    public Cell getCell(Coordinate coordinate) {
+        return getCell(coordinate.x(), coordinate.y());
     }
 
-    public boolean canPlaceShip(int x, int y, int size) {
-        // First check if the ship would extend beyond the board boundaries
-        if (x < 0 || y < 0 || x + size > this.size || y + size > this.size) {
+    public abstract boolean canPlaceShip(int x, int y, int size);
+
+    public abstract void placeShip(BattleShip ship, int startX, int startY);
+
+    public abstract boolean isHit(int x, int y);
+
+    public abstract boolean isOccupied(int x, int y);
+
+    /**
+     * Returns the ship occupying the square, or {@code null} for open water.
+     */
+    public abstract BattleShip getShipAt(int x, int y);
+
+    /**
+     * Marks the square as hit.
+     *
+     * @return {@code false} if the square had already been hit
+     */
+    public boolean markHit(int x, int y) {
+        if (isHit(x, y)) {
             return false;
         }
-        
-        // Check if ship can be placed at given position
-        for (int i = x; i < x + size; i++) {
-            for (int j = y; j < y + size; j++) {
-                if (grid[i][j].isCellOccupied()) {
-                    return false;
+        setHit(x, y, true);
+        return true;
+    }
+
+    /**
+     * Copies the hit state into {@code words} as a bitset indexed by
+     * {@code x * size + y}. {@code words} must hold at least {@code size * size} bits.
+     */
+    public void copyHitsTo(long[] words) {
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                if (isHit(i, j)) {
+                    Bits.set(words, i * size + j);
                 }
             }
         }
-        return true;
     }
 
-    public void placeShip(BattleShip ship, int startX, int startY) {
-        for (int i = startX; i < startX + ship.getSize(); i++) {
-            for (int j = startY; j < startY + ship.getSize(); j++) {
-                grid[i][j].setShip(ship);
-                ship.addOccupiedCell(grid[i][j]);
+    /**
+     * Copies the occupancy into {@code words}, laid out like {@link #copyHitsTo(long[])}.
+     */
+    public void copyOccupancyTo(long[] words) {
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                if (isOccupied(i, j)) {
+                    Bits.set(words, i * size + j);
+                }
             }
         }
     }
 
+    /**
+     * Removes every ship and shot so the board can host another game. Players
+     * keep their ids and territories and lose their fleets.
+     */
+    public void reset() {
+        clearSquares();
+        for (Player player : players) {
+            player.reset();
+        }
+    }
+
+    // Returns every square to unhit open water
+    abstract void clearSquares();
+
+    // Write-through hooks used by Cell views
+    abstract void setHit(int x, int y, boolean hit);
+
+    abstract void setOccupied(int x, int y, boolean occupied);
+
+    abstract void setShipAt(int x, int y, BattleShip ship);
+
+    public boolean isValidPosition(int x, int y) {
+        return x >= 0 && x < size && y >= 0 && y < size;
+    }
+
+    /**
+     * Returns the player whose territory contains row {@code x}.
+     */
+    public Player getTerritoryOwner(int x) {
+        return players.get(territoryLayout.territoryOf(x));
+    }
+
+    /**
+     * Returns the index in {@link #getPlayers()} of a player of this board, found
+     * through the first row of its territory.
+     *
+     * @throws IllegalArgumentException if the player belongs to another board
+     */
+    public int indexOf(Player player) {
+        int startX = player.getTerritoryStartX();
+        int index = startX >= 0 && startX < size ? territoryLayout.territoryOf(startX) : -1;
+        if (index < 0 || players.get(index) != player) {
+            throw new IllegalArgumentException("Player " + player.getId() + " is not on this board");
+        }
+        return index;
+    }
+
+    /**
+     * Iterates over every square in row order, creating cell views only as they
+     * are reached.
+     */
+    public Iterable<Cell> cells() {
+        return cells(0, 0, size, size);
+    }
+
+    /**
+     * Iterates lazily over the {@code rows x cols} window starting at
+     * {@code (fromX, fromY)}, clipped to the board.
+     */
+    public Iterable<Cell> cells(int fromX, int fromY, int rows, int cols) {
+        int startX = Math.max(0, fromX);
+        int startY = Math.max(0, fromY);
+        int endX = (int) Math.min(size, (long) fromX + rows);
+        int endY = (int) Math.min(size, (long) fromY + cols);
+        return () -> new Iterator<>() {
+            private int x = startX;
+            private int y = startY;
+
+            @Override
+            public boolean hasNext() {
+                return x < endX && y < endY;
+            }
+
+            @Override
+            public Cell next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Cell cell = getCell(x, y);
+                if (++y == endY) {
+                    y = startY;
+                    x++;
+                }
+                return cell;
+            }
+        };
+    }
+
+    /**
+     * Materializes every square into a list; {@link #cells()} walks the board
+     * without holding {@code size * size} cells at once.
+     */
     public List<Cell> getBoardLayout() {
         List<Cell> layout = new ArrayList<>();
         for (int i = 0; i < size; i++) {
             for (int j = 0; j < size; j++) {
-                layout.add(grid[i][j]);
+                layout.add(getCell(i, j));
             }
         }
         return layout;
     }
 
+    /**
+     * Boards are mutable containers of a whole game's state, so a board is only
+     * equal to itself.
+     */
+    @Override
+    public boolean equals(Object o) {
+        return this == o;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+
     public int getSize() {
         return size;
     }
@@ -90,4 +234,4 @@ public class Board {
     public List<Player> getPlayers() {
         return players;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,65 @@
+package org.codekart.models;
+
+/**
+ * {@link Cell} view over a board that does not keep cell objects. Every read and
+ * write goes through to the owning board, so views are cheap to create and
+ * never go stale.
+ */
+class BoardCell extends Cell {
+    private final Board board;
+
+    BoardCell(Board board, int x, int y, Player player) {
+        super(x, y, player);
+        this.board = board;
+    }
+
+    @Override
+    public boolean isCellHit() {
+        return board.isHit(getX(), getY());
+    }
+
+    @Override
+    public boolean isHit() {
+        return isCellHit();
+    }
+
+    @Override
+    public void setHit(boolean hit) {
+        board.setHit(getX(), getY(), hit);
+    }
+
+    @Override
+    public boolean hit() {
+        return board.markHit(getX(), getY());
+    }
+
+    @Override
+    public boolean isCellOccupied() {
+        return board.isOccupied(getX(), getY());
+    }
+
+    @Override
+    public boolean isOccupied() {
+        return isCellOccupied();
+    }
+
+    @Override
+    public void setOccupied(boolean occupied) {
+        board.setOccupied(getX(), getY(), occupied);
+    }
+
+    @Override
+    public BattleShip getShip() {
+        return board.getShipAt(getX(), getY());
+    }
+
+    @Override
+    public void setShip(BattleShip ship) {
+        board.setShipAt(getX(), getY(), ship);
+    }
+
+    @Override
+    public boolean hasShip() {
+        return getShip() != null;
+    }
+}
@@ -0,0 +1,19 @@
+package org.codekart.models;
+
+public enum BoardType {
+    GRID,
+    BITSET,
+    SPARSE;
+
+    public Board create(int size) {
+        return create(size, 2);
+    }
+
+    public Board create(int size, int playerCount) {
+        return switch (this) {
+            case GRID -> new GridBoard(size, playerCount);
+            case BITSET -> new BitBoard(size, playerCount);
+            case SPARSE -> new SparseBoard(size, playerCount);
+        };
+    }
+}
@@ -1,13 +1,27 @@
 package org.codekart.models;
 
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
+/**
+ * Cells are equal when they sit on the same square, which also makes two views
+ * of one square equal. {@code toString} names the ship instead of printing it.
+ */
 @Data
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString(onlyExplicitlyIncluded = true)
 public class Cell {
     private Player player;
+    @EqualsAndHashCode.Include
+    @ToString.Include
     private int x;
+    @EqualsAndHashCode.Include
+    @ToString.Include
     private int y;
+    @ToString.Include
     private boolean isHit;
+    @ToString.Include
     private boolean isOccupied;
     private BattleShip ship;
 
@@ -36,6 +50,13 @@ public class Cell {
         return true;
     }
 
+    // Returns the square to open water for a board being reused
+    void clear() {
+        this.isHit = false;
+        this.isOccupied = false;
+        this.ship = null;
+    }
+
     public boolean hasShip() {
         return isOccupied && ship != null;
     }
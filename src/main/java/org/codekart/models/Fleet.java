@@ -0,0 +1,93 @@
+package org.codekart.models;
+
+import java.util.Arrays;
+
+/**
+ * Ship layout for both players, stored column-wise in primitive arrays. Each
+ * entry carries the same arguments as {@link Game#addShip}.
+ */
+public class Fleet {
+    private String[] ids;
+    private int[] sizes;
+    private int[] posX1;
+    private int[] posY1;
+    private int[] posX2;
+    private int[] posY2;
+    private int count;
+
+    public Fleet() {
+        this(8);
+    }
+
+    public Fleet(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        this.ids = new String[capacity];
+        this.sizes = new int[capacity];
+        this.posX1 = new int[capacity];
+        this.posY1 = new int[capacity];
+        this.posX2 = new int[capacity];
+        this.posY2 = new int[capacity];
+    }
+
+    public Fleet add(String shipId, int size, int posX1, int posY1, int posX2, int posY2) {
+        if (count == ids.length) {
+            grow();
+        }
+        this.ids[count] = shipId;
+        this.sizes[count] = size;
+        this.posX1[count] = posX1;
+        this.posY1[count] = posY1;
+        this.posX2[count] = posX2;
+        this.posY2[count] = posY2;
+        count++;
+        return this;
+    }
+
+    private void grow() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        sizes = Arrays.copyOf(sizes, capacity);
+        posX1 = Arrays.copyOf(posX1, capacity);
+        posY1 = Arrays.copyOf(posY1, capacity);
+        posX2 = Arrays.copyOf(posX2, capacity);
+        posY2 = Arrays.copyOf(posY2, capacity);
+    }
+
+    /**
+     * Adds every ship to the game, all or nothing.
+     *
+     * @throws IllegalArgumentException if a ship cannot be placed
+     * @see Game#addShips(Fleet)
+     */
+    public void addTo(Game game) {
+        game.addShips(this);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public String getShipId(int index) {
+        return ids[index];
+    }
+
+    public int getShipSize(int index) {
+        return sizes[index];
+    }
+
+    public int getPosX1(int index) {
+        return posX1[index];
+    }
+
+    public int getPosY1(int index) {
+        return posY1[index];
+    }
+
+    public int getPosX2(int index) {
+        return posX2[index];
+    }
+
+    public int getPosY2(int index) {
+        return posY2[index];
+    }
+}
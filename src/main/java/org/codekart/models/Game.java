@@ -1,24 +1,108 @@
 package org.codekart.models;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.codekart.events.GameEventListener;
+import org.codekart.util.Coordinate;
+import org.codekart.util.PackedCoordinates;
+import org.codekart.util.SparseBitGrid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Optional;
-
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+
+/**
+ * Games are equal when their ids are; {@code toString} summarizes the game
+ * without the board.
+ *
+ * <p>A game is driven by one thread at a time. Other threads that want to look
+ * at it while it is being played go through {@link #spectate()}, which never
+ * blocks the thread playing the game.
+ */
 @Data
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString(onlyExplicitlyIncluded = true)
 public class Game {
+    // Optimistic copies a spectator tries before asking the writer to publish a view
+    private static final int OPTIMISTIC_VIEW_ATTEMPTS = 8;
+
+    @EqualsAndHashCode.Include
+    @ToString.Include
     private String gameId;
     private Board board;
+    @ToString.Include
     private GameState state;
     private Player currentPlayer;
     private Player winner;
+    @ToString.Include
     private int turnCount;
+    private GameEventListener eventListener = GameEventListener.NO_OP;
+    // Write-locked around every mutation so spectators can validate optimistic reads
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final StampedLock viewLock = new StampedLock();
+    // Set by a spectator that keeps losing races; the next move publishes a fresh view
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile boolean viewRequested;
+    // Last view published by the writer, never modified once published
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile GameView publishedView;
+    // Players still in the game, in turn order
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final TurnRing turnRing;
 
     public Game(String gameId, int boardSize) {
+        this(gameId, new GridBoard(boardSize));
+    }
+
+    public Game(String gameId, Board board) {
         this.gameId = gameId;
-        this.board = new Board(boardSize);
+        this.board = board;
         this.state = GameState.INITIALIZED;
         this.currentPlayer = board.getPlayers().get(0); // Player A starts
         this.turnCount = 0;
+        this.turnRing = new TurnRing(board.getPlayers().size());
+        rebuildRing(true);
+    }
+
+    /**
+     * Places a ship centered on {@code (centerX, centerY)} inside {@code owner}'s
+     * territory, with id {@code shipId + "_" + owner id}. This is how fleets are
+     * set up for games with more than two players; {@link #addShip(String, int,
+     * int, int, int, int)} only places ships for players A and B.
+     *
+     * @return {@code false} if the ship leaves the territory or overlaps another ship
+     */
+    public boolean addShip(Player owner, String shipId, int size, int centerX, int centerY) {
+        if (state != GameState.INITIALIZED) {
+            throw new IllegalStateException("Cannot add ships after game has started");
+        }
+        int startX = centerX - size / 2;
+        int startY = centerY - size / 2;
+        if (!isValidShipPosition(centerX, centerY, size, owner) || !board.canPlaceShip(startX, startY, size)) {
+            return false;
+        }
+
+        BattleShip ship = new BattleShip(shipId + "_" + owner.getId(), size, owner);
+        long stamp = viewLock.writeLock();
+        try {
+            board.placeShip(ship, startX, startY);
+            owner.addShip(ship);
+        } finally {
+            unlockWrite(stamp);
+        }
+
+        eventListener.onShipAdded(this, owner, shipId, size, centerX, centerY);
+        return true;
     }
 
     public boolean addShip(String shipId, int size, int posX1, int posY1, int posX2, int posY2) {
@@ -46,17 +130,87 @@ public class Game {
             return false;
         }
 
+        placeShipPair(shipId, size, posX1, posY1, posX2, posY2);
+        return true;
+    }
+
+    /**
+     * Validates and places a whole fleet in one pass. Every ship is checked
+     * against the board and against the rest of the fleet before anything is
+     * placed, so either the whole fleet is added or none of it.
+     *
+     * @throws IllegalArgumentException naming the first ship that cannot be placed
+     */
+    public void addShips(Fleet fleet) {
+        if (state != GameState.INITIALIZED) {
+            throw new IllegalStateException("Cannot add ships after game has started");
+        }
+
+        Player playerA = board.getPlayers().get(0);
+        Player playerB = board.getPlayers().get(1);
+        // Squares claimed by earlier ships of this fleet, sized by the fleet rather than the board
+        SparseBitGrid pending = new SparseBitGrid();
+
+        for (int i = 0; i < fleet.size(); i++) {
+            int size = fleet.getShipSize(i);
+            int startX1 = fleet.getPosX1(i) - size / 2;
+            int startY1 = fleet.getPosY1(i) - size / 2;
+            int startX2 = fleet.getPosX2(i) - size / 2;
+            int startY2 = fleet.getPosY2(i) - size / 2;
+            if (!isValidShipPosition(fleet.getPosX1(i), fleet.getPosY1(i), size, playerA)
+                    || !isValidShipPosition(fleet.getPosX2(i), fleet.getPosY2(i), size, playerB)
+                    || !canClaim(pending, startX1, startY1, size)
+                    || !canClaim(pending, startX2, startY2, size)) {
+                throw new IllegalArgumentException("Ship " + fleet.getShipId(i) + " cannot be placed");
+            }
+            claim(pending, startX1, startY1, size);
+            claim(pending, startX2, startY2, size);
+        }
+
+        for (int i = 0; i < fleet.size(); i++) {
+            placeShipPair(fleet.getShipId(i), fleet.getShipSize(i), fleet.getPosX1(i), fleet.getPosY1(i),
+                    fleet.getPosX2(i), fleet.getPosY2(i));
+        }
+    }
+
+    private boolean canClaim(SparseBitGrid pending, int startX, int startY, int size) {
+        if (!board.canPlaceShip(startX, startY, size)) {
+            return false;
+        }
+        for (int i = startX; i < startX + size; i++) {
+            if (pending.anySetInRow(i, startY, startY + size)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void claim(SparseBitGrid pending, int startX, int startY, int size) {
+        for (int i = startX; i < startX + size; i++) {
+            pending.setRow(i, startY, startY + size);
+        }
+    }
+
+    private void placeShipPair(String shipId, int size, int posX1, int posY1, int posX2, int posY2) {
+        Player playerA = board.getPlayers().get(0);
+        Player playerB = board.getPlayers().get(1);
+
         // Create and place ships
         BattleShip shipA = new BattleShip(shipId + "_A", size, playerA);
         BattleShip shipB = new BattleShip(shipId + "_B", size, playerB);
 
-        board.placeShip(shipA, startX1, startY1);
-        board.placeShip(shipB, startX2, startY2);
+        long stamp = viewLock.writeLock();
+        try {
+            board.placeShip(shipA, posX1 - size / 2, posY1 - size / 2);
+            board.placeShip(shipB, posX2 - size / 2, posY2 - size / 2);
 
-        playerA.addShip(shipA);
-        playerB.addShip(shipB);
+            playerA.addShip(shipA);
+            playerB.addShip(shipB);
+        } finally {
+            unlockWrite(stamp);
+        }
 
-        return true;
+        eventListener.onShipAdded(this, shipId, size, posX1, posY1, posX2, posY2);
     }
 
     private boolean isValidShipPosition(int centerX, int centerY, int size, Player player) {
@@ -77,98 +231,271 @@ public class Game {
             throw new IllegalStateException("Game can only be started once");
         }
         
-        if (board.getPlayers().get(0).getShips().isEmpty() || 
-            board.getPlayers().get(1).getShips().isEmpty()) {
-            throw new IllegalStateException("Both players must have ships to start the game");
+        for (Player player : board.getPlayers()) {
+            if (player.getShips().isEmpty()) {
+                throw new IllegalStateException(board.getPlayers().size() == 2
+                        ? "Both players must have ships to start the game"
+                        : "Every player must have ships to start the game");
+            }
         }
 
-        this.state = GameState.IN_PROGRESS;
-        System.out.println("Game started! " + currentPlayer.getName() + " goes first.");
+        long stamp = viewLock.writeLock();
+        try {
+            this.state = GameState.IN_PROGRESS;
+            rebuildRing(true);
+        } finally {
+            unlockWrite(stamp);
+        }
+        eventListener.onGameStarted(this);
     }
 
     public boolean hitShip(Player attackingPlayer, int x, int y) {
+        return fireShot(attackingPlayer, x, y) != ShotResult.REJECTED;
+    }
+
+    /**
+     * {@link #hitShip(Player, int, int)} for a coordinate packed with {@link PackedCoordinates}.
+     */
+    public boolean hitShip(Player attackingPlayer, long packedCoordinate) {
+        return fireShot(attackingPlayer, packedCoordinate) != ShotResult.REJECTED;
+    }
+
+    public boolean hitShip(Player attackingPlayer, Coordinate coordinate) {
+        return fireShot(attackingPlayer, coordinate.x(), coordinate.y()) != ShotResult.REJECTED;
+    }
+
+    public ShotResult fireShot(Player attackingPlayer, long packedCoordinate) {
+        return fireShot(attackingPlayer, PackedCoordinates.x(packedCoordinate), PackedCoordinates.y(packedCoordinate));
+    }
+
+    /**
+     * Fires at a square and reports what the shot did. Off-board squares and
+     * squares already hit are rejected without using up the turn.
+     */
+    public ShotResult fireShot(Player attackingPlayer, int x, int y) {
         if (state != GameState.IN_PROGRESS) {
             throw new IllegalStateException("Game is not in progress");
         }
 
-        if (!attackingPlayer.equals(currentPlayer)) {
+        if (attackingPlayer != currentPlayer) {
             throw new IllegalStateException("Not your turn");
         }
 
-        Cell targetCell = board.getCell(x, y);
-        if (targetCell == null) {
-            return false;
+        // Work on the board directly so compact boards never have to build Cell views
+        if (!board.isValidPosition(x, y)) {
+            return ShotResult.REJECTED;
         }
 
-        // Check if already hit
-        if (targetCell.isCellHit()) {
-            return false;
-        }
+        // The whole move is applied under the write lock and reported afterwards, so
+        // spectators never see half a turn and listeners may spectate themselves
+        ShotResult result;
+        BattleShip hitShip;
+        long stamp = viewLock.writeLock();
+        try {
+            // Check if already hit
+            if (!board.markHit(x, y)) {
+                return ShotResult.REJECTED;
+            }
 
-        boolean hit = targetCell.hit();
-        turnCount++;
+            turnCount++;
+            hitShip = board.getShipAt(x, y);
+            if (hitShip == null) {
+                result = ShotResult.MISS;
+            } else if (hitShip.recordHit()) {
+                Player owner = hitShip.getOwner();
+                owner.recordShipDestroyed();
+                if (!owner.hasShipsAlive()) {
+                    eliminate(owner);
+                }
+                result = ShotResult.SUNK;
+            } else {
+                result = ShotResult.HIT;
+            }
 
-        if (hit && targetCell.hasShip()) {
-            BattleShip hitShip = targetCell.getShip();
-            hitShip.checkAndUpdateDestroyedStatus();
-            
-            System.out.println(attackingPlayer.getName() + "'s turn: Missile fired at (" + x + ", " + y + "). \"Hit\". " + 
-                             targetCell.getPlayer().getName() + "'s ship with id \"" + hitShip.getId() + "\" destroyed.");
-            
-            // Check if ship is destroyed
-            if (hitShip.isDestroyed()) {
-                targetCell.getPlayer().checkAndUpdateAliveStatus();
+            // Switch turns if game is still ongoing
+            if (state == GameState.IN_PROGRESS) {
+                switchTurn();
             }
-        } else {
-            System.out.println(attackingPlayer.getName() + "'s turn: Missile fired at (" + x + ", " + y + "). \"Miss\"");
+        } finally {
+            unlockWrite(stamp);
         }
 
-        // Check for game end
-        checkGameEnd();
-
-        // Switch turns if game is still ongoing
-        if (state == GameState.IN_PROGRESS) {
-            switchTurn();
+        eventListener.onShotFired(this, attackingPlayer, x, y);
+        if (hitShip != null) {
+            eventListener.onHit(this, attackingPlayer, x, y, hitShip);
+            if (result == ShotResult.SUNK) {
+                eventListener.onShipSunk(this, hitShip);
+            }
+        } else {
+            eventListener.onMiss(this, attackingPlayer, x, y);
+        }
+        if (state == GameState.FINISHED) {
+            eventListener.onGameOver(this, winner);
         }
 
-        return hit;
+        return result;
     }
 
     private void switchTurn() {
-        currentPlayer = currentPlayer.equals(board.getPlayers().get(0)) ? 
-                       board.getPlayers().get(1) : board.getPlayers().get(0);
+        currentPlayer = board.getPlayers().get(turnRing.next(board.indexOf(currentPlayer)));
     }
 
-    private void checkGameEnd() {
-        Player playerA = board.getPlayers().get(0);
-        Player playerB = board.getPlayers().get(1);
-
-        if (!playerA.hasShipsAlive()) {
-            winner = playerB;
-            state = GameState.FINISHED;
-            System.out.println("GameOver. " + winner.getName() + " wins.");
-        } else if (!playerB.hasShipsAlive()) {
-            winner = playerA;
+    // Drops a player whose last ship sank; the game ends when one player is left
+    private void eliminate(Player player) {
+        int index = board.indexOf(player);
+        turnRing.remove(index);
+        if (turnRing.size() == 1) {
+            winner = board.getPlayers().get(turnRing.next(index));
             state = GameState.FINISHED;
-            System.out.println("GameOver. " + winner.getName() + " wins.");
         }
     }
 
+    /**
+     * Recomputes the turn rotation from the players that still have ships. For
+     * code that restores a game's counters directly instead of replaying moves.
+     */
+    public void rebuildTurnOrder() {
+        long stamp = viewLock.writeLock();
+        try {
+            rebuildRing(false);
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    private void rebuildRing(boolean everyone) {
+        List<Player> players = board.getPlayers();
+        boolean[] alive = new boolean[players.size()];
+        for (int i = 0; i < alive.length; i++) {
+            alive[i] = everyone || players.get(i).hasShipsAlive();
+        }
+        turnRing.rebuild(alive);
+    }
+
     public void viewBattleField() {
-        System.out.println("Battlefield Status:");
-        for (int i = 0; i < board.getSize(); i++) {
-            for (int j = 0; j < board.getSize(); j++) {
-                Cell cell = board.getCell(i, j);
-                if (cell.isCellOccupied()) {
-                    System.out.print(cell.getPlayer().getName() + "-" + cell.getShip().getId() + " ");
-                } else {
-                    System.out.print("-- ");
+        try {
+            renderBattleField(System.out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the battlefield to {@code out} in row chunks; see {@link BattleFieldRenderer}.
+     */
+    public void renderBattleField(Appendable out) throws IOException {
+        renderBattleField(out, 0, 0, board.getSize(), board.getSize());
+    }
+
+    /**
+     * Writes the {@code rows x cols} window of the battlefield starting at
+     * {@code (fromX, fromY)}.
+     */
+    public void renderBattleField(Appendable out, int fromX, int fromY, int rows, int cols) throws IOException {
+        out.append("Battlefield Status:").append(System.lineSeparator());
+        new BattleFieldRenderer().render(board, out, fromX, fromY, rows, cols);
+    }
+
+    /**
+     * Returns this game to the state of a freshly created one with the given id
+     * and no ships, reusing the board's storage. Listeners are detached. Meant
+     * for simulation loops that play many games on one instance.
+     */
+    public void reset(String gameId) {
+        long stamp = viewLock.writeLock();
+        try {
+            board.reset();
+            this.gameId = gameId;
+            this.state = GameState.INITIALIZED;
+            this.currentPlayer = board.getPlayers().get(0);
+            this.winner = null;
+            this.turnCount = 0;
+            this.eventListener = GameEventListener.NO_OP;
+            rebuildRing(true);
+        } finally {
+            unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns a consistent picture of the game as of some completed move, safe to
+     * call from any thread while another one plays. Readers copy the state
+     * optimistically and retry if a move landed during the copy, so any number of
+     * spectators add no latency to the turns. A reader that keeps losing the race
+     * to a fast writer asks it to publish a view at the end of its next move and
+     * copies that, so no reader ever holds up the writer with a lock.
+     */
+    public GameView spectate() {
+        GameView view = new GameView(board.getSize(), board.getPlayers().size());
+        spectate(view);
+        return view;
+    }
+
+    /**
+     * {@link #spectate()} into a view from an earlier call, reusing its buffers.
+     */
+    public void spectate(GameView view) {
+        GameView published = null;
+        for (int attempt = 0; ; attempt++) {
+            if (attempt == OPTIMISTIC_VIEW_ATTEMPTS) {
+                published = publishedView;
+                viewRequested = true;
+            } else if (attempt > OPTIMISTIC_VIEW_ATTEMPTS) {
+                GameView latest = publishedView;
+                if (latest != published) {
+                    view.copyFrom(latest);
+                    return;
+                }
+            }
+            long stamp = viewLock.tryOptimisticRead();
+            if (stamp != 0) {
+                try {
+                    view.capture(this);
+                } catch (RuntimeException e) {
+                    // A copy racing a move can trip over half-updated state; only a valid read may fail
+                    if (viewLock.validate(stamp)) {
+                        throw e;
+                    }
+                    continue;
+                }
+                if (viewLock.validate(stamp)) {
+                    return;
                 }
             }
-            System.out.println();
+            Thread.onSpinWait();
         }
     }
 
+    /**
+     * Runs {@code reader} with no move in progress and none starting until it
+     * returns. Meant for whole-game copies such as snapshots that must see one
+     * move's worth of state; the thread playing the game waits for it, so keep it
+     * short and prefer {@link #spectate()} for repeated polling.
+     */
+    public <T> T readLocked(Function<Game, T> reader) {
+        long stamp = viewLock.readLock();
+        try {
+            return reader.apply(this);
+        } finally {
+            viewLock.unlockRead(stamp);
+        }
+    }
+
+    // Ends a move, first publishing a view for any spectator that asked for one
+    private void unlockWrite(long stamp) {
+        if (viewRequested) {
+            viewRequested = false;
+            try {
+                GameView view = new GameView(board.getSize(), board.getPlayers().size());
+                view.capture(this);
+                publishedView = view;
+            } catch (RuntimeException e) {
+                // Spectators keep reading optimistically; the move itself must not fail
+            }
+        }
+        viewLock.unlockWrite(stamp);
+    }
+
     public boolean isGameFinished() {
         return state == GameState.FINISHED;
     }
@@ -184,4 +511,14 @@ public class Game {
     public GameState getState() {
         return state;
     }
-} 
\ No newline at end of file
+
+    @ToString.Include(name = "currentPlayer")
+    private String currentPlayerId() {
+        return currentPlayer == null ? null : currentPlayer.getId();
+    }
+
+    @ToString.Include(name = "winner")
+    private String winnerId() {
+        return winner == null ? null : winner.getId();
+    }
+}
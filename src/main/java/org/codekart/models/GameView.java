@@ -0,0 +1,103 @@
+package org.codekart.models;
+
+import lombok.Getter;
+import org.codekart.util.Bits;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Point-in-time copy of a {@link Game} for spectators, filled by
+ * {@link Game#spectate()}. Every field comes from the same completed move, so
+ * the hit count always matches the turn count and the alive ship counts match
+ * the hits. A view is not tied to the game: later moves only show up in the
+ * next {@code spectate} call.
+ *
+ * <p>Hits and occupancy are bitsets indexed by {@code x * size + y}, like
+ * {@link Board#copyHitsTo(long[])}. A view can be passed back to
+ * {@link Game#spectate(GameView)} to refresh it without allocating.
+ */
+@Getter
+public class GameView {
+    private final int boardSize;
+    private final long[] hits;
+    private final long[] occupied;
+    private final int[] aliveShipCounts;
+    private String gameId;
+    private GameState state;
+    private int turnCount;
+    private String currentPlayerId;
+    private String winnerId;
+
+    GameView(int boardSize, int playerCount) {
+        if ((long) boardSize * boardSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Board too large for a spectator view: " + boardSize);
+        }
+        this.boardSize = boardSize;
+        this.hits = Bits.words(boardSize * boardSize);
+        this.occupied = Bits.words(boardSize * boardSize);
+        this.aliveShipCounts = new int[playerCount];
+    }
+
+    /**
+     * Copies the game into this view. Runs under an optimistic read, so it may
+     * see a move half applied; the caller validates and retries.
+     */
+    void capture(Game game) {
+        Board board = game.getBoard();
+        if (board.getSize() != boardSize) {
+            throw new IllegalArgumentException("View is for a " + boardSize + "x" + boardSize + " board");
+        }
+        Arrays.fill(hits, 0L);
+        board.copyHitsTo(hits);
+        Arrays.fill(occupied, 0L);
+        board.copyOccupancyTo(occupied);
+        List<Player> players = board.getPlayers();
+        for (int i = 0; i < aliveShipCounts.length; i++) {
+            aliveShipCounts[i] = players.get(i).getAliveShipCount();
+        }
+        gameId = game.getGameId();
+        state = game.getState();
+        turnCount = game.getTurnCount();
+        Player current = game.getCurrentPlayer();
+        currentPlayerId = current == null ? null : current.getId();
+        Player winner = game.getWinner();
+        winnerId = winner == null ? null : winner.getId();
+    }
+
+    /**
+     * Copies another view of the same board into this one.
+     */
+    void copyFrom(GameView other) {
+        if (other.boardSize != boardSize || other.aliveShipCounts.length != aliveShipCounts.length) {
+            throw new IllegalArgumentException("View is for a " + boardSize + "x" + boardSize + " board");
+        }
+        System.arraycopy(other.hits, 0, hits, 0, hits.length);
+        System.arraycopy(other.occupied, 0, occupied, 0, occupied.length);
+        System.arraycopy(other.aliveShipCounts, 0, aliveShipCounts, 0, aliveShipCounts.length);
+        gameId = other.gameId;
+        state = other.state;
+        turnCount = other.turnCount;
+        currentPlayerId = other.currentPlayerId;
+        winnerId = other.winnerId;
+    }
+
+    public boolean isHit(int x, int y) {
+        return Bits.get(hits, x * boardSize + y);
+    }
+
+    public boolean isOccupied(int x, int y) {
+        return Bits.get(occupied, x * boardSize + y);
+    }
+
+    public int getAliveShipCount(int playerIndex) {
+        return aliveShipCounts[playerIndex];
+    }
+
+    public int getHitCount() {
+        int count = 0;
+        for (long word : hits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+}
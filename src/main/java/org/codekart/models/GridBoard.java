@@ -0,0 +1,200 @@
+package org.codekart.models;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.codekart.util.Bits;
+import java.util.Arrays;
+
+/**
+ * Board backed by one {@link Cell} object per square.
+ *
+ * <p>Occupancy and hits are also indexed in one {@code long[]} bitset per row,
+ * so {@link #canPlaceShip} tests a word of 64 squares at a time like
+ * {@link BitBoard} and spectator copies move whole words. The board's cells
+ * keep the index current whenever they change, whichever path changes them.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@ToString(callSuper = true, onlyExplicitlyIncluded = true)
+public class GridBoard extends Board {
+    @Setter(AccessLevel.NONE)
+    private Cell[][] grid;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final long[][] occupiedRows;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final long[][] hitRows;
+
+    public GridBoard(int N) {
+        this(N, 2);
+    }
+
+    public GridBoard(int N, int playerCount) {
+        super(N, playerCount);
+        this.grid = new Cell[N][N];
+        this.occupiedRows = new long[N][];
+        this.hitRows = new long[N][];
+        initializeBoard();
+    }
+
+    private void initializeBoard() {
+        int N = getSize();
+        for (int i = 0; i < N; i++) {
+            occupiedRows[i] = Bits.words(N);
+            hitRows[i] = Bits.words(N);
+            for (int j = 0; j < N; j++) {
+                grid[i][j] = new GridCell(i, j, getTerritoryOwner(i));
+            }
+        }
+    }
+
+    @Override
+    void clearSquares() {
+        for (Cell[] row : grid) {
+            for (Cell cell : row) {
+                cell.clear();
+            }
+        }
+        for (int i = 0; i < occupiedRows.length; i++) {
+            Arrays.fill(occupiedRows[i], 0L);
+            Arrays.fill(hitRows[i], 0L);
+        }
+    }
+
+    @Override
+    public BoardType getType() {
+        return BoardType.GRID;
+    }
+
+    @Override
+    public Cell getCell(int x, int y) {
+        if (!isValidPosition(x, y)) {
+            return null;
+        }
+        return grid[x][y];
+    }
+
+    @Override
+    public boolean canPlaceShip(int x, int y, int size) {
+        // First check if the ship would extend beyond the board boundaries
+        if (x < 0 || y < 0 || x + size > getSize() || y + size > getSize()) {
+            return false;
+        }
+
+        // One masked word test per 64 squares of each row
+        for (int i = x; i < x + size; i++) {
+            if (Bits.anySet(occupiedRows[i], y, y + size)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void placeShip(BattleShip ship, int startX, int startY) {
+        for (int i = startX; i < startX + ship.getSize(); i++) {
+            for (int j = startY; j < startY + ship.getSize(); j++) {
+                grid[i][j].setShip(ship);
+            }
+        }
+        ship.place(this, startX, startY);
+    }
+
+    @Override
+    public boolean isHit(int x, int y) {
+        return grid[x][y].isCellHit();
+    }
+
+    @Override
+    public boolean isOccupied(int x, int y) {
+        return grid[x][y].isCellOccupied();
+    }
+
+    @Override
+    public void copyHitsTo(long[] words) {
+        copyRows(hitRows, words);
+    }
+
+    @Override
+    public void copyOccupancyTo(long[] words) {
+        copyRows(occupiedRows, words);
+    }
+
+    private void copyRows(long[][] rows, long[] words) {
+        int N = getSize();
+        for (int i = 0; i < N; i++) {
+            Bits.orInto(rows[i], N, words, i * N);
+        }
+    }
+
+    @Override
+    public BattleShip getShipAt(int x, int y) {
+        Cell cell = grid[x][y];
+        return cell.hasShip() ? cell.getShip() : null;
+    }
+
+    @Override
+    public boolean markHit(int x, int y) {
+        return grid[x][y].hit();
+    }
+
+    @Override
+    void setHit(int x, int y, boolean hit) {
+        grid[x][y].setHit(hit);
+    }
+
+    @Override
+    void setOccupied(int x, int y, boolean occupied) {
+        grid[x][y].setOccupied(occupied);
+    }
+
+    @Override
+    void setShipAt(int x, int y, BattleShip ship) {
+        grid[x][y].setShip(ship);
+    }
+
+    private static void index(long[][] rows, int x, int y, boolean set) {
+        if (set) {
+            Bits.set(rows[x], y);
+        } else {
+            Bits.clear(rows[x], y);
+        }
+    }
+
+    // Mirrors every occupancy and hit change into the row bitsets
+    private final class GridCell extends Cell {
+        GridCell(int x, int y, Player player) {
+            super(x, y, player);
+        }
+
+        @Override
+        public void setShip(BattleShip ship) {
+            super.setShip(ship);
+            index(occupiedRows, getX(), getY(), true);
+        }
+
+        @Override
+        public void setOccupied(boolean occupied) {
+            super.setOccupied(occupied);
+            index(occupiedRows, getX(), getY(), occupied);
+        }
+
+        @Override
+        public boolean hit() {
+            boolean first = super.hit();
+            index(hitRows, getX(), getY(), true);
+            return first;
+        }
+
+        @Override
+        public void setHit(boolean hit) {
+            super.setHit(hit);
+            index(hitRows, getX(), getY(), hit);
+        }
+    }
+}
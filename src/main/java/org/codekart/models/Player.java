@@ -1,17 +1,28 @@
 package org.codekart.models;
 
 import lombok.Data;
+import lombok.ToString;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * A player is only equal to itself: every board names its players A, B, ..., so
+ * ids repeat across games. {@code toString} leaves out the fleet.
+ */
 @Data
+@ToString(onlyExplicitlyIncluded = true)
 public class Player {
+    @ToString.Include
     private String id;
+    @ToString.Include
     private String name;
     private List<BattleShip> ships;
     private boolean isAlive;
     private int territoryStartX;
     private int territoryEndX;
+    // Ships not destroyed yet, maintained by addShip and recordShipDestroyed
+    @ToString.Include
+    private int aliveShipCount;
 
     public Player(String id, String name, int territoryStartX, int territoryEndX) {
         this.id = id;
@@ -24,18 +35,47 @@ public class Player {
 
     public void addShip(BattleShip ship) {
         this.ships.add(ship);
+        if (!ship.isDestroyed()) {
+            aliveShipCount++;
+            isAlive = true;
+        }
+    }
+
+    /**
+     * Counts one of this player's ships as destroyed in O(1).
+     */
+    public void recordShipDestroyed() {
+        if (aliveShipCount > 0) {
+            aliveShipCount--;
+        }
+        this.isAlive = aliveShipCount > 0;
+    }
+
+    /**
+     * Drops the whole fleet so the player can take part in a new game on the
+     * same board.
+     */
+    public void reset() {
+        ships.clear();
+        aliveShipCount = 0;
+        isAlive = true;
     }
 
     public boolean hasShipsAlive() {
-        return ships.stream().anyMatch(ship -> !ship.isDestroyed());
+        return aliveShipCount > 0;
     }
 
+    /**
+     * Recomputes the alive-ship counter and alive flag from the ships.
+     * The turn loop relies on {@link #recordShipDestroyed()} instead.
+     */
     public void checkAndUpdateAliveStatus() {
-        this.isAlive = hasShipsAlive();
+        this.aliveShipCount = (int) ships.stream().filter(ship -> !ship.isDestroyed()).count();
+        this.isAlive = aliveShipCount > 0;
     }
 
     public int getAliveShipCount() {
-        return (int) ships.stream().filter(ship -> !ship.isDestroyed()).count();
+        return aliveShipCount;
     }
 
     public String getId() {
@@ -57,4 +97,14 @@ public class Player {
     public List<BattleShip> getShips() {
         return ships;
     }
-} 
\ No newline at end of file
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+}
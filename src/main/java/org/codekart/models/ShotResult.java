@@ -0,0 +1,17 @@
+package org.codekart.models;
+
+/**
+ * Outcome of a single shot, as returned by {@link Game#fireShot(Player, int, int)}.
+ */
+public enum ShotResult {
+    MISS,
+    HIT,
+    // The shot hit the last intact square of a ship
+    SUNK,
+    // Off the board or already fired at; the turn was not used up
+    REJECTED;
+
+    public boolean isHit() {
+        return this == HIT || this == SUNK;
+    }
+}
@@ -0,0 +1,186 @@
+package org.codekart.models;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.codekart.util.LongObjectMap;
+import org.codekart.util.PackedCoordinates;
+import org.codekart.util.SparseBitGrid;
+import java.util.Arrays;
+
+/**
+ * Board for very large, mostly empty battlefields. Occupancy and hit state live
+ * in {@link SparseBitGrid}s that allocate a chunk only once a ship or a shot
+ * lands in it. Ships are indexed by the {@value SparseBitGrid#CHUNK}-square
+ * chunks they overlap, and a square's ship is the one in its chunk that
+ * {@link BattleShip#covers covers} it. Memory grows with the number of ships
+ * and shots, not with {@code N * N} or with ship area, so a 100,000 x 100,000
+ * board with a few thousand ships fits comfortably.
+ *
+ * <p>Like {@link BitBoard}, no {@link Cell} objects are kept and
+ * {@link #getCell(int, int)} returns a write-through view. Reads never allocate.
+ *
+ * <p>Snapshots and spectator views still copy dense {@code N * N} bitsets, so
+ * they are only available while the area fits in an {@code int}.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@ToString(callSuper = true, onlyExplicitlyIncluded = true)
+public class SparseBoard extends Board {
+    private final SparseBitGrid occupied;
+    private final SparseBitGrid hits;
+    // Ships overlapping each chunk, keyed by SparseBitGrid#chunkKey
+    private final LongObjectMap<BattleShip[]> shipsByChunk;
+    // Squares given a ship through a Cell view rather than placeShip
+    private final LongObjectMap<BattleShip> shipsBySquare;
+
+    public SparseBoard(int N) {
+        this(N, 2);
+    }
+
+    public SparseBoard(int N, int playerCount) {
+        super(N, playerCount);
+        this.occupied = new SparseBitGrid();
+        this.hits = new SparseBitGrid();
+        this.shipsByChunk = new LongObjectMap<>();
+        this.shipsBySquare = new LongObjectMap<>();
+    }
+
+    @Override
+    public BoardType getType() {
+        return BoardType.SPARSE;
+    }
+
+    @Override
+    public Cell getCell(int x, int y) {
+        if (!isValidPosition(x, y)) {
+            return null;
+        }
+        return new BoardCell(this, x, y, getTerritoryOwner(x));
+    }
+
+    @Override
+    public boolean canPlaceShip(int x, int y, int size) {
+        if (x < 0 || y < 0 || (long) x + size > getSize() || (long) y + size > getSize()) {
+            return false;
+        }
+
+        // One masked word test per chunk each row crosses; empty chunks cost a map miss
+        for (int i = x; i < x + size; i++) {
+            if (occupied.anySetInRow(i, y, y + size)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void placeShip(BattleShip ship, int startX, int startY) {
+        int endX = startX + ship.getSize();
+        int endY = startY + ship.getSize();
+        for (int i = startX; i < endX; i++) {
+            occupied.setRow(i, startY, endY);
+        }
+        for (int cx = startX; cx < endX; cx = (cx | (SparseBitGrid.CHUNK - 1)) + 1) {
+            for (int cy = startY; cy < endY; cy = (cy | (SparseBitGrid.CHUNK - 1)) + 1) {
+                long key = SparseBitGrid.chunkKey(cx, cy);
+                BattleShip[] chunkShips = shipsByChunk.get(key);
+                if (chunkShips == null) {
+                    shipsByChunk.put(key, new BattleShip[]{ship});
+                } else {
+                    chunkShips = Arrays.copyOf(chunkShips, chunkShips.length + 1);
+                    chunkShips[chunkShips.length - 1] = ship;
+                    shipsByChunk.put(key, chunkShips);
+                }
+            }
+        }
+        ship.place(this, startX, startY);
+    }
+
+    @Override
+    public boolean isHit(int x, int y) {
+        return hits.get(x, y);
+    }
+
+    @Override
+    public boolean isOccupied(int x, int y) {
+        return occupied.get(x, y);
+    }
+
+    @Override
+    public BattleShip getShipAt(int x, int y) {
+        if (!occupied.get(x, y)) {
+            return null;
+        }
+        if (shipsBySquare.size() > 0) {
+            BattleShip ship = shipsBySquare.get(PackedCoordinates.pack(x, y));
+            if (ship != null) {
+                return ship;
+            }
+        }
+        BattleShip[] chunkShips = shipsByChunk.get(SparseBitGrid.chunkKey(x, y));
+        if (chunkShips != null) {
+            for (BattleShip ship : chunkShips) {
+                if (ship.covers(x, y)) {
+                    return ship;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean markHit(int x, int y) {
+        return hits.set(x, y);
+    }
+
+    @Override
+    public void copyHitsTo(long[] words) {
+        hits.copyTo(words, getSize());
+    }
+
+    @Override
+    public void copyOccupancyTo(long[] words) {
+        occupied.copyTo(words, getSize());
+    }
+
+    /**
+     * Returns the number of chunks allocated for occupancy and hits together.
+     */
+    public int getAllocatedChunkCount() {
+        return occupied.chunkCount() + hits.chunkCount();
+    }
+
+    @Override
+    void clearSquares() {
+        // Chunks stay allocated so the next game on this board can reuse them
+        occupied.clear();
+        hits.clear();
+        shipsByChunk.clear();
+        shipsBySquare.clear();
+    }
+
+    @Override
+    void setHit(int x, int y, boolean hit) {
+        if (hit) {
+            hits.set(x, y);
+        } else {
+            hits.clear(x, y);
+        }
+    }
+
+    @Override
+    void setOccupied(int x, int y, boolean occupied) {
+        if (occupied) {
+            this.occupied.set(x, y);
+        } else {
+            this.occupied.clear(x, y);
+        }
+    }
+
+    @Override
+    void setShipAt(int x, int y, BattleShip ship) {
+        shipsBySquare.put(PackedCoordinates.pack(x, y), ship);
+        occupied.set(x, y);
+    }
+}
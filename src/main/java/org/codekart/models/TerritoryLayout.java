@@ -0,0 +1,80 @@
+package org.codekart.models;
+
+/**
+ * Splits the rows of a board into one band of consecutive rows per player, as
+ * evenly as possible: player {@code i} owns rows
+ * {@code [i * N / players, (i + 1) * N / players)}. With two players this is the
+ * classic split at {@code N / 2}.
+ *
+ * <p>Every territory owns at least one row, so a player's first row identifies
+ * it. The owner of every row is precomputed into a byte map, so
+ * {@link #territoryOf(int)} is a single array read.
+ */
+public final class TerritoryLayout {
+    public static final int MIN_PLAYERS = 2;
+    public static final int MAX_PLAYERS = 26;
+
+    private final int boardSize;
+    private final int[] rowStarts;
+    private final byte[] territoryByRow;
+
+    private TerritoryLayout(int boardSize, int playerCount) {
+        this.boardSize = boardSize;
+        this.rowStarts = new int[playerCount + 1];
+        this.territoryByRow = new byte[boardSize];
+        for (int i = 0; i <= playerCount; i++) {
+            rowStarts[i] = (int) ((long) i * boardSize / playerCount);
+        }
+        for (int i = 0; i < playerCount; i++) {
+            for (int row = rowStarts[i]; row < rowStarts[i + 1]; row++) {
+                territoryByRow[row] = (byte) i;
+            }
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the player count is outside
+     *                                  {@value #MIN_PLAYERS}..{@value #MAX_PLAYERS}
+     *                                  or the board has fewer rows than players,
+     *                                  which would leave a territory empty
+     */
+    public static TerritoryLayout of(int boardSize, int playerCount) {
+        if (playerCount < MIN_PLAYERS || playerCount > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Player count must be between " + MIN_PLAYERS + " and "
+                    + MAX_PLAYERS + ": " + playerCount);
+        }
+        if (playerCount > boardSize) {
+            throw new IllegalArgumentException("Board of size " + boardSize + " cannot hold " + playerCount + " players");
+        }
+        return new TerritoryLayout(boardSize, playerCount);
+    }
+
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    public int getPlayerCount() {
+        return rowStarts.length - 1;
+    }
+
+    /**
+     * Returns the first row of player {@code index}'s territory.
+     */
+    public int getStartRow(int index) {
+        return rowStarts[index];
+    }
+
+    /**
+     * Returns the row after the last row of player {@code index}'s territory.
+     */
+    public int getEndRow(int index) {
+        return rowStarts[index + 1];
+    }
+
+    /**
+     * Returns the index of the player owning {@code row}.
+     */
+    public int territoryOf(int row) {
+        return territoryByRow[row];
+    }
+}
@@ -0,0 +1,61 @@
+package org.codekart.models;
+
+/**
+ * Turn order over the players still in the game, as a circular doubly linked
+ * list in two {@code int[]}s indexed by player. Advancing a turn and dropping an
+ * eliminated player are both O(1).
+ */
+final class TurnRing {
+    private final int[] next;
+    private final int[] previous;
+    private int size;
+
+    TurnRing(int playerCount) {
+        this.next = new int[playerCount];
+        this.previous = new int[playerCount];
+    }
+
+    /**
+     * Links the players for which {@code alive} is set, in index order.
+     */
+    void rebuild(boolean[] alive) {
+        size = 0;
+        int first = -1;
+        int last = -1;
+        for (int i = 0; i < alive.length; i++) {
+            if (!alive[i]) {
+                continue;
+            }
+            if (first < 0) {
+                first = i;
+            } else {
+                next[last] = i;
+                previous[i] = last;
+            }
+            last = i;
+            size++;
+        }
+        if (first >= 0) {
+            next[last] = first;
+            previous[first] = last;
+        }
+    }
+
+    /**
+     * Returns the player after {@code player}. For a player that has just been
+     * removed this is still the next one left in the game.
+     */
+    int next(int player) {
+        return next[player];
+    }
+
+    void remove(int player) {
+        next[previous[player]] = next[player];
+        previous[next[player]] = previous[player];
+        size--;
+    }
+
+    int size() {
+        return size;
+    }
+}
@@ -0,0 +1,22 @@
+package org.codekart.persistence;
+
+/**
+ * When a {@link GameJournal} forces appended records to disk.
+ */
+public enum FsyncPolicy {
+    /**
+     * Never forces; the operating system writes dirty pages back on its own
+     * schedule. Survives a process crash, not a machine crash.
+     */
+    NONE,
+    /**
+     * A background thread forces everything appended since its last pass once per
+     * commit interval, so a whole group of records shares one fsync.
+     */
+    GROUP_COMMIT,
+    /**
+     * Forces each record as it is appended. Durable per move, but the game thread
+     * waits for the disk.
+     */
+    EVERY_RECORD
+}
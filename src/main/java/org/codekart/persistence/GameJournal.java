@@ -0,0 +1,307 @@
+package org.codekart.persistence;
+
+import org.codekart.events.GameEventListener;
+import org.codekart.models.Game;
+import org.codekart.models.Player;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of every move of one game, backed by a memory-mapped file.
+ *
+ * <p>The journal is a {@link GameEventListener}: attach it to a game right after
+ * creating it (combine it with other listeners through
+ * {@link GameEventListener#compose}) and every successful {@code addShip},
+ * {@code startGame} and {@code hitShip} is appended as a fixed-width
+ * {@value #RECORD_SIZE}-byte record. {@link JournalReplay} rebuilds the game from
+ * the file.
+ *
+ * <p>Appending a move is a handful of absolute puts into mapped memory: it never
+ * allocates and never waits for the disk unless the policy is
+ * {@link FsyncPolicy#EVERY_RECORD}. With {@link FsyncPolicy#GROUP_COMMIT} a daemon
+ * thread forces the records appended since its previous pass once per interval.
+ * The file grows by one mapped segment at a time. Every record ends with a
+ * CRC32C of its other bytes, written last. A record that a crash left half on
+ * disk fails the check, and {@link JournalReplay} treats it as the end of the
+ * journal.
+ *
+ * <p>Appends must come from one thread at a time, which holds for a game driven
+ * through {@code GameService}.
+ */
+public class GameJournal implements GameEventListener, AutoCloseable {
+    public static final int HEADER_SIZE = 128;
+    public static final int RECORD_SIZE = 48;
+
+    static final int MAGIC = 0x42534A31; // "BSJ1"
+    // 2: header byte 7 holds the player count and PLACE_SHIP records exist
+    // 3: 48-byte records ending in a CRC32C
+    static final short VERSION = 3;
+    static final int MAX_GAME_ID_BYTES = HEADER_SIZE - 14;
+
+    // Record types; 0 marks the end of the journal
+    static final byte ADD_SHIP = 1;
+    static final byte START = 2;
+    static final byte HIT = 3;
+    static final byte SHIP_ID_CONTINUATION = 4;
+    // One ship for one player, from Game#addShip(Player, ...)
+    static final byte PLACE_SHIP = 5;
+
+    // Record layout
+    static final int TYPE_OFFSET = 0;
+    static final int PLAYER_OFFSET = 1;
+    static final int ID_LENGTH_OFFSET = 2;
+    static final int FIELDS_OFFSET = 4;
+    static final int SHIP_ID_OFFSET = 24;
+    static final int CRC_OFFSET = RECORD_SIZE - 4;
+    static final int SHIP_ID_BYTES = CRC_OFFSET - SHIP_ID_OFFSET;
+    static final int CONTINUATION_BYTES = CRC_OFFSET - FIELDS_OFFSET;
+
+    private final FileChannel channel;
+    private final Game game;
+    private final FsyncPolicy fsyncPolicy;
+    private final int recordsPerSegment;
+    private final Thread flusher;
+    private final Object forceLock = new Object();
+    private final CRC32C crc = new CRC32C();
+
+    private volatile MappedByteBuffer[] segments = new MappedByteBuffer[0];
+    private MappedByteBuffer currentSegment;
+    private long recordCount;
+    private volatile long appendedRecords;
+    private long forcedRecords;
+    private volatile boolean closed;
+
+    private GameJournal(FileChannel channel, Game game, JournalConfig config) {
+        this.channel = channel;
+        this.game = game;
+        this.fsyncPolicy = config.getFsyncPolicy();
+        this.recordsPerSegment = config.getRecordsPerSegment();
+        if (fsyncPolicy == FsyncPolicy.GROUP_COMMIT) {
+            long intervalNanos = config.getGroupCommitInterval().toNanos();
+            this.flusher = new Thread(() -> flushLoop(intervalNanos), "game-journal-flusher");
+            this.flusher.setDaemon(true);
+        } else {
+            this.flusher = null;
+        }
+    }
+
+    public static GameJournal create(Path file, Game game) throws IOException {
+        return create(file, game, JournalConfig.defaults());
+    }
+
+    /**
+     * Creates (or truncates) a journal file for the game and writes its header.
+     */
+    public static GameJournal create(Path file, Game game, JournalConfig config) throws IOException {
+        if (config.getRecordsPerSegment() <= 0) {
+            throw new IllegalArgumentException("Records per segment must be positive");
+        }
+        byte[] gameId = game.getGameId().getBytes(StandardCharsets.UTF_8);
+        if (gameId.length > MAX_GAME_ID_BYTES) {
+            throw new IllegalArgumentException("Game id too long for a journal header: " + game.getGameId());
+        }
+
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            header.putInt(0, MAGIC);
+            header.putShort(4, VERSION);
+            header.put(6, (byte) game.getBoard().getType().ordinal());
+            header.put(7, (byte) game.getBoard().getPlayers().size());
+            header.putInt(8, game.getBoard().getSize());
+            header.putShort(12, (short) gameId.length);
+            header.put(14, gameId);
+            header.force();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+
+        GameJournal journal = new GameJournal(channel, game, config);
+        if (journal.flusher != null) {
+            journal.flusher.start();
+        }
+        return journal;
+    }
+
+    @Override
+    public void onShipAdded(Game game, String shipId, int size, int posX1, int posY1, int posX2, int posY2) {
+        byte[] id = shipId.getBytes(StandardCharsets.UTF_8);
+        MappedByteBuffer segment = shipRecord(id);
+        int offset = recordOffset();
+        segment.putInt(offset + FIELDS_OFFSET, size);
+        segment.putInt(offset + FIELDS_OFFSET + 4, posX1);
+        segment.putInt(offset + FIELDS_OFFSET + 8, posY1);
+        segment.putInt(offset + FIELDS_OFFSET + 12, posX2);
+        segment.putInt(offset + FIELDS_OFFSET + 16, posY2);
+        commit(segment, offset, ADD_SHIP);
+    }
+
+    @Override
+    public void onShipAdded(Game game, Player owner, String shipId, int size, int centerX, int centerY) {
+        byte[] id = shipId.getBytes(StandardCharsets.UTF_8);
+        MappedByteBuffer segment = shipRecord(id);
+        int offset = recordOffset();
+        segment.put(offset + PLAYER_OFFSET, (byte) playerIndex(owner));
+        segment.putInt(offset + FIELDS_OFFSET, size);
+        segment.putInt(offset + FIELDS_OFFSET + 4, centerX);
+        segment.putInt(offset + FIELDS_OFFSET + 8, centerY);
+        commit(segment, offset, PLACE_SHIP);
+    }
+
+    /**
+     * Appends continuation records for the overflow of a long ship id and returns
+     * the segment of the ship record, with the id already written into it.
+     */
+    private MappedByteBuffer shipRecord(byte[] id) {
+        for (int from = SHIP_ID_BYTES; from < id.length; from += CONTINUATION_BYTES) {
+            MappedByteBuffer segment = nextRecord();
+            int offset = recordOffset();
+            segment.put(offset + FIELDS_OFFSET, id, from, Math.min(CONTINUATION_BYTES, id.length - from));
+            commit(segment, offset, SHIP_ID_CONTINUATION);
+        }
+
+        MappedByteBuffer segment = nextRecord();
+        int offset = recordOffset();
+        segment.putShort(offset + ID_LENGTH_OFFSET, (short) id.length);
+        segment.put(offset + SHIP_ID_OFFSET, id, 0, Math.min(SHIP_ID_BYTES, id.length));
+        return segment;
+    }
+
+    @Override
+    public void onGameStarted(Game game) {
+        MappedByteBuffer segment = nextRecord();
+        commit(segment, recordOffset(), START);
+    }
+
+    @Override
+    public void onShotFired(Game game, Player attacker, int x, int y) {
+        MappedByteBuffer segment = nextRecord();
+        int offset = recordOffset();
+        segment.put(offset + PLAYER_OFFSET, (byte) playerIndex(attacker));
+        segment.putInt(offset + FIELDS_OFFSET, x);
+        segment.putInt(offset + FIELDS_OFFSET + 4, y);
+        segment.putInt(offset + FIELDS_OFFSET + 8, game.getTurnCount());
+        commit(segment, offset, HIT);
+    }
+
+    private int playerIndex(Player player) {
+        List<Player> players = game.getBoard().getPlayers();
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i) == player) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Player " + player.getId() + " is not part of game " + game.getGameId());
+    }
+
+    /**
+     * Returns the segment the next record goes into, mapping a new one when the
+     * current segment is full.
+     */
+    private MappedByteBuffer nextRecord() {
+        if (closed) {
+            throw new IllegalStateException("Journal has been closed");
+        }
+        int segmentIndex = (int) (recordCount / recordsPerSegment);
+        if (segmentIndex == segments.length) {
+            try {
+                long position = HEADER_SIZE + (long) segmentIndex * recordsPerSegment * RECORD_SIZE;
+                currentSegment = channel.map(FileChannel.MapMode.READ_WRITE, position,
+                        (long) recordsPerSegment * RECORD_SIZE);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot grow journal", e);
+            }
+            MappedByteBuffer[] grown = Arrays.copyOf(segments, segmentIndex + 1);
+            grown[segmentIndex] = currentSegment;
+            segments = grown;
+        }
+        return currentSegment;
+    }
+
+    private int recordOffset() {
+        return (int) (recordCount % recordsPerSegment) * RECORD_SIZE;
+    }
+
+    private void commit(MappedByteBuffer segment, int offset, byte type) {
+        segment.put(offset + TYPE_OFFSET, type);
+        segment.putInt(offset + CRC_OFFSET, checksum(crc, segment, offset));
+        recordCount++;
+        appendedRecords = recordCount;
+        if (fsyncPolicy == FsyncPolicy.EVERY_RECORD) {
+            sync();
+        }
+    }
+
+    /**
+     * Returns the CRC32C of the record at {@code offset}, up to its checksum field.
+     * Moves the buffer's position and limit, which appends never rely on.
+     */
+    static int checksum(CRC32C crc, ByteBuffer records, int offset) {
+        crc.reset();
+        records.limit(offset + CRC_OFFSET).position(offset);
+        crc.update(records);
+        records.limit(records.capacity());
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Forces every record appended so far to disk, whatever the policy.
+     */
+    public void sync() {
+        long target = appendedRecords;
+        synchronized (forceLock) {
+            MappedByteBuffer[] mapped = segments;
+            while (forcedRecords < target) {
+                int segmentIndex = (int) (forcedRecords / recordsPerSegment);
+                int from = (int) (forcedRecords % recordsPerSegment);
+                int to = (int) Math.min(recordsPerSegment, target - (long) segmentIndex * recordsPerSegment);
+                mapped[segmentIndex].force(from * RECORD_SIZE, (to - from) * RECORD_SIZE);
+                forcedRecords = (long) segmentIndex * recordsPerSegment + to;
+            }
+        }
+    }
+
+    private void flushLoop(long intervalNanos) {
+        while (!closed) {
+            LockSupport.parkNanos(this, intervalNanos);
+            sync();
+        }
+    }
+
+    public long getRecordCount() {
+        return appendedRecords;
+    }
+
+    /**
+     * Forces outstanding records, stops the flusher and closes the file.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (flusher != null) {
+            LockSupport.unpark(flusher);
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        sync();
+        channel.close();
+    }
+}
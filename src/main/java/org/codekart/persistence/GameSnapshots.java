@@ -0,0 +1,293 @@
+package org.codekart.persistence;
+
+import org.codekart.models.*;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Compact binary snapshots of a {@link Game}.
+ *
+ * <p>A snapshot holds the game header (id, board type and size, state, turn
+ * count, current player and winner), a ship table (id, size, owner, top-left
+ * corner) and the occupancy and hit state of the board as bitsets indexed by
+ * {@code x * size + y}. Restoring replays the ship table onto a fresh board and
+ * then reapplies the hits, so ship and player counters come back consistent.
+ * Occupancy is stored as well, and a restore fails if it does not match the
+ * rebuilt board.
+ *
+ * <p>{@link #encodedSize} and {@link #encode} expect a game that is not being
+ * played meanwhile; {@link #snapshot}, {@link #write} and {@link #writeAll} hold
+ * each game still with {@link Game#readLocked} while they encode it.
+ *
+ * <p>Listeners are not part of a snapshot; a restored game reports to
+ * {@link org.codekart.events.GameEventListener#NO_OP} until told otherwise.
+ */
+public final class GameSnapshots {
+    private static final int MAGIC = 0x42534731; // "BSG1"
+    private static final short VERSION = 1;
+    private static final int NO_PLAYER = -1;
+
+    private GameSnapshots() {
+    }
+
+    /**
+     * Returns the exact number of bytes {@link #encode(Game, ByteBuffer)} writes.
+     */
+    public static int encodedSize(Game game) {
+        Board board = game.getBoard();
+        int size = 4 + 2 + 1 + 4 + 4 + 1 + 4 + 4 + 4 + stringSize(game.getGameId());
+        size += 4;
+        for (Player player : board.getPlayers()) {
+            for (BattleShip ship : player.getShips()) {
+                size += stringSize(ship.getId()) + 4 + 1 + 4 + 4;
+            }
+        }
+        int words = wordCount(board);
+        size += 2 * (4 + words * 8);
+        return size;
+    }
+
+    public static void encode(Game game, ByteBuffer out) {
+        Board board = game.getBoard();
+        List<Player> players = board.getPlayers();
+
+        out.putInt(MAGIC);
+        out.putShort(VERSION);
+        out.put((byte) board.getType().ordinal());
+        out.putInt(board.getSize());
+        out.putInt(players.size());
+        out.put((byte) game.getState().ordinal());
+        out.putInt(game.getTurnCount());
+        out.putInt(players.indexOf(game.getCurrentPlayer()));
+        out.putInt(game.getWinner() == null ? NO_PLAYER : players.indexOf(game.getWinner()));
+        putString(out, game.getGameId());
+
+        int shipCount = 0;
+        for (Player player : players) {
+            shipCount += player.getShips().size();
+        }
+        out.putInt(shipCount);
+        for (int p = 0; p < players.size(); p++) {
+            for (BattleShip ship : players.get(p).getShips()) {
+                putString(out, ship.getId());
+                out.putInt(ship.getSize());
+                out.put((byte) p);
+                out.putInt(ship.getStartX());
+                out.putInt(ship.getStartY());
+            }
+        }
+
+        long[] words = new long[wordCount(board)];
+        board.copyOccupancyTo(words);
+        putWords(out, words);
+        Arrays.fill(words, 0L);
+        board.copyHitsTo(words);
+        putWords(out, words);
+    }
+
+    /**
+     * Rebuilds a game from a snapshot.
+     *
+     * @throws IllegalArgumentException if the buffer does not hold a valid snapshot
+     */
+    public static Game decode(ByteBuffer in) {
+        if (in.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a game snapshot");
+        }
+        short version = in.getShort();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported snapshot version: " + version);
+        }
+        BoardType boardType = BoardType.values()[in.get()];
+        int boardSize = in.getInt();
+        int playerCount = in.getInt();
+        GameState state = GameState.values()[in.get()];
+        int turnCount = in.getInt();
+        int currentPlayer = in.getInt();
+        int winner = in.getInt();
+        String gameId = getString(in);
+
+        Game game = new Game(gameId, boardType.create(boardSize, playerCount));
+        Board board = game.getBoard();
+        List<Player> players = board.getPlayers();
+
+        int shipCount = in.getInt();
+        for (int i = 0; i < shipCount; i++) {
+            String shipId = getString(in);
+            int size = in.getInt();
+            Player owner = players.get(in.get());
+            int startX = in.getInt();
+            int startY = in.getInt();
+            if (!board.canPlaceShip(startX, startY, size)) {
+                throw new IllegalArgumentException("Ship " + shipId + " overlaps another ship or the board edge");
+            }
+            BattleShip ship = new BattleShip(shipId, size, owner);
+            board.placeShip(ship, startX, startY);
+            owner.addShip(ship);
+        }
+
+        long[] occupancy = getWords(in);
+        long[] rebuilt = new long[occupancy.length];
+        board.copyOccupancyTo(rebuilt);
+        if (!Arrays.equals(occupancy, rebuilt)) {
+            throw new IllegalArgumentException("Snapshot occupancy does not match its ship table");
+        }
+
+        long[] hits = getWords(in);
+        for (int w = 0; w < hits.length; w++) {
+            long word = hits[w];
+            while (word != 0) {
+                int index = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                restoreHit(board, index / boardSize, index % boardSize);
+            }
+        }
+
+        game.setState(state);
+        game.setTurnCount(turnCount);
+        game.setCurrentPlayer(players.get(currentPlayer));
+        game.setWinner(winner == NO_PLAYER ? null : players.get(winner));
+        game.rebuildTurnOrder();
+        return game;
+    }
+
+    private static void restoreHit(Board board, int x, int y) {
+        board.markHit(x, y);
+        BattleShip ship = board.getShipAt(x, y);
+        if (ship != null && ship.recordHit()) {
+            ship.getOwner().recordShipDestroyed();
+        }
+    }
+
+    /**
+     * Encodes a game into a new buffer, ready to be read, without letting a move
+     * land halfway through.
+     */
+    public static ByteBuffer snapshot(Game game) {
+        return game.readLocked(locked -> {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(encodedSize(locked));
+            encode(locked, buffer);
+            return buffer.flip();
+        });
+    }
+
+    public static void write(Game game, Path file) throws IOException {
+        ByteBuffer buffer = snapshot(game);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, buffer);
+        }
+    }
+
+    public static Game read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect((int) channel.size());
+            readFully(channel, buffer);
+            buffer.flip();
+            return decode(buffer);
+        }
+    }
+
+    /**
+     * Writes many games into one file as a count followed by length-prefixed
+     * snapshots, reusing a single direct buffer for all of them. The buffer
+     * grows when a game does not fit.
+     */
+    public static void writeAll(Collection<Game> games, Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(4);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            buffer.putInt(games.size()).flip();
+            writeFully(channel, buffer);
+            for (Game game : games) {
+                buffer = encodeFramed(game, buffer);
+                writeFully(channel, buffer);
+            }
+        }
+    }
+
+    // Encodes a length-prefixed snapshot into the buffer, or a larger one if it does not fit
+    private static ByteBuffer encodeFramed(Game game, ByteBuffer buffer) {
+        return game.readLocked(locked -> {
+            int size = encodedSize(locked);
+            ByteBuffer out = buffer.capacity() >= size + 4
+                    ? buffer.clear()
+                    : ByteBuffer.allocateDirect(Math.max(size + 4, 2 * buffer.capacity()));
+            out.putInt(size);
+            encode(locked, out);
+            return out.flip();
+        });
+    }
+
+    public static List<Game> readAll(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int count = buffer.getInt();
+            List<Game> games = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int length = buffer.getInt();
+                ByteBuffer snapshot = buffer.slice(buffer.position(), length);
+                games.add(decode(snapshot));
+                buffer.position(buffer.position() + length);
+            }
+            return games;
+        }
+    }
+
+    private static int wordCount(Board board) {
+        long area = (long) board.getSize() * board.getSize();
+        if (area > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Board too large to snapshot: " + board.getSize());
+        }
+        return (int) ((area + 63) >>> 6);
+    }
+
+    private static int stringSize(String value) {
+        return 2 + value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static void putString(ByteBuffer out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.putShort((short) bytes.length);
+        out.put(bytes);
+    }
+
+    private static String getString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getShort() & 0xFFFF];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void putWords(ByteBuffer out, long[] words) {
+        out.putInt(words.length);
+        out.asLongBuffer().put(words);
+        out.position(out.position() + words.length * 8);
+    }
+
+    private static long[] getWords(ByteBuffer in) {
+        long[] words = new long[in.getInt()];
+        in.asLongBuffer().get(words);
+        in.position(in.position() + words.length * 8);
+        return words;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+            // keep reading until the buffer is full or the file ends
+        }
+    }
+}
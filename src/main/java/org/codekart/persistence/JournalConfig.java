@@ -0,0 +1,24 @@
+package org.codekart.persistence;
+
+import lombok.Builder;
+import lombok.Getter;
+import java.time.Duration;
+
+/**
+ * Tuning knobs of a {@link GameJournal}.
+ */
+@Getter
+@Builder
+public class JournalConfig {
+    @Builder.Default
+    private final FsyncPolicy fsyncPolicy = FsyncPolicy.GROUP_COMMIT;
+    @Builder.Default
+    private final Duration groupCommitInterval = Duration.ofMillis(10);
+    // Records per memory-mapped segment; the file grows one segment at a time
+    @Builder.Default
+    private final int recordsPerSegment = 1 << 16;
+
+    public static JournalConfig defaults() {
+        return builder().build();
+    }
+}
@@ -0,0 +1,112 @@
+package org.codekart.persistence;
+
+import org.codekart.models.BoardType;
+import org.codekart.models.Game;
+import org.codekart.models.Player;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+import static org.codekart.persistence.GameJournal.*;
+
+/**
+ * Rebuilds a {@link Game} by replaying a {@link GameJournal} file through the
+ * regular game API, so the result is exactly the game that wrote the journal up
+ * to its last complete record. Replay stops at the first record whose checksum
+ * does not match, since nothing after a torn record can be trusted.
+ */
+public final class JournalReplay {
+
+    private JournalReplay() {
+    }
+
+    /**
+     * @throws IllegalArgumentException if the file is not a journal or a record
+     *                                  does not apply to the rebuilt game
+     */
+    public static Game replay(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer journal = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (journal.limit() < HEADER_SIZE || journal.getInt(0) != MAGIC) {
+                throw new IllegalArgumentException("Not a game journal: " + file);
+            }
+            short version = journal.getShort(4);
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported journal version: " + version);
+            }
+            BoardType boardType = BoardType.values()[journal.get(6)];
+            int playerCount = journal.get(7);
+            int boardSize = journal.getInt(8);
+            byte[] gameId = new byte[journal.getShort(12)];
+            journal.get(14, gameId);
+
+            Game game = new Game(new String(gameId, StandardCharsets.UTF_8), boardType.create(boardSize, playerCount));
+            ByteArrayOutputStream shipIdOverflow = new ByteArrayOutputStream();
+            CRC32C crc = new CRC32C();
+            int end = journal.limit();
+            for (int offset = HEADER_SIZE; offset + RECORD_SIZE <= end; offset += RECORD_SIZE) {
+                byte type = journal.get(offset + TYPE_OFFSET);
+                if (type == 0 || journal.getInt(offset + CRC_OFFSET) != checksum(crc, journal, offset)) {
+                    break;
+                }
+                apply(game, journal, offset, type, shipIdOverflow);
+            }
+            return game;
+        }
+    }
+
+    private static void apply(Game game, MappedByteBuffer journal, int offset, byte type,
+                              ByteArrayOutputStream shipIdOverflow) {
+        int fields = offset + FIELDS_OFFSET;
+        switch (type) {
+            case SHIP_ID_CONTINUATION -> {
+                byte[] chunk = new byte[CONTINUATION_BYTES];
+                journal.get(fields, chunk);
+                shipIdOverflow.writeBytes(chunk);
+            }
+            case ADD_SHIP -> {
+                String shipId = shipId(journal, offset, shipIdOverflow);
+                boolean added = game.addShip(shipId, journal.getInt(fields), journal.getInt(fields + 4),
+                        journal.getInt(fields + 8), journal.getInt(fields + 12), journal.getInt(fields + 16));
+                if (!added) {
+                    throw new IllegalArgumentException("Journaled ship " + shipId + " cannot be placed");
+                }
+            }
+            case PLACE_SHIP -> {
+                String shipId = shipId(journal, offset, shipIdOverflow);
+                Player owner = game.getBoard().getPlayers().get(journal.get(offset + PLAYER_OFFSET));
+                boolean added = game.addShip(owner, shipId, journal.getInt(fields), journal.getInt(fields + 4),
+                        journal.getInt(fields + 8));
+                if (!added) {
+                    throw new IllegalArgumentException("Journaled ship " + shipId + " cannot be placed");
+                }
+            }
+            case START -> game.startGame();
+            case HIT -> {
+                Player attacker = game.getBoard().getPlayers().get(journal.get(offset + PLAYER_OFFSET));
+                game.hitShip(attacker, journal.getInt(fields), journal.getInt(fields + 4));
+                if (game.getTurnCount() != journal.getInt(fields + 8)) {
+                    throw new IllegalArgumentException("Journal diverged from the game at turn "
+                            + journal.getInt(fields + 8));
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown journal record type " + type + " at offset " + offset);
+        }
+    }
+
+    private static String shipId(MappedByteBuffer journal, int offset, ByteArrayOutputStream shipIdOverflow) {
+        int idLength = journal.getShort(offset + ID_LENGTH_OFFSET);
+        byte[] id = new byte[idLength];
+        journal.get(offset + SHIP_ID_OFFSET, id, 0, Math.min(SHIP_ID_BYTES, idLength));
+        if (idLength > SHIP_ID_BYTES) {
+            System.arraycopy(shipIdOverflow.toByteArray(), 0, id, SHIP_ID_BYTES, idLength - SHIP_ID_BYTES);
+        }
+        shipIdOverflow.reset();
+        return new String(id, StandardCharsets.UTF_8);
+    }
+}
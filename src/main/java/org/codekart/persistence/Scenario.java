@@ -0,0 +1,22 @@
+package org.codekart.persistence;
+
+import lombok.Getter;
+import org.codekart.models.BoardType;
+import org.codekart.models.Fleet;
+
+/**
+ * A board and the fleet to place on it, as read by {@link ScenarioReader}.
+ * {@code boardSize} is 0 when the file only lists ships.
+ */
+@Getter
+public class Scenario {
+    private final int boardSize;
+    private final BoardType boardType;
+    private final Fleet fleet;
+
+    public Scenario(int boardSize, BoardType boardType, Fleet fleet) {
+        this.boardSize = boardSize;
+        this.boardType = boardType;
+        this.fleet = fleet;
+    }
+}
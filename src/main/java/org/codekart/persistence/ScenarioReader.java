@@ -0,0 +1,214 @@
+package org.codekart.persistence;
+
+import org.codekart.models.BoardType;
+import org.codekart.models.Fleet;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams a scenario from a line-delimited CSV file:
+ *
+ * <pre>
+ * # comments and blank lines are skipped
+ * board,1024,BITSET
+ * SH1,2,1,5,600,4
+ * SH2,3,10,10,700,20
+ * </pre>
+ *
+ * <p>The optional {@code board} line gives the board size and, optionally, the
+ * {@link BoardType} (default {@code GRID}). Every other line is one ship with the
+ * arguments of {@link org.codekart.models.Game#addShip}.
+ *
+ * <p>The file is read through a single reused buffer and each line is parsed in
+ * place straight into the {@link Fleet}'s primitive columns; the ship id is the
+ * only object created per line. Nothing is checked against a board here, that
+ * happens in one pass when the fleet is added with
+ * {@link org.codekart.models.Game#addShips}.
+ */
+public final class ScenarioReader {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int SHIP_FIELDS = 6;
+    private static final byte[] BOARD_KEYWORD = "board".getBytes(StandardCharsets.US_ASCII);
+
+    private final byte[] bytes;
+    // Start and end of each field of the current line
+    private final int[] fieldStart = new int[SHIP_FIELDS + 1];
+    private final int[] fieldEnd = new int[SHIP_FIELDS + 1];
+    private final Fleet fleet = new Fleet(1024);
+    private int lineNumber;
+    private int boardSize;
+    private BoardType boardType = BoardType.GRID;
+
+    private ScenarioReader(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    public static Scenario read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(channel);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if a line is malformed, naming its line number
+     */
+    public static Scenario read(ReadableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        ScenarioReader reader = new ScenarioReader(buffer.array());
+
+        boolean endOfInput = false;
+        while (!endOfInput) {
+            endOfInput = channel.read(buffer) < 0;
+            buffer.flip();
+            int lineStart = buffer.position();
+            for (int i = lineStart; i < buffer.limit(); i++) {
+                if (reader.bytes[i] == '\n') {
+                    reader.parseLine(lineStart, i);
+                    lineStart = i + 1;
+                }
+            }
+            if (endOfInput && lineStart < buffer.limit()) {
+                reader.parseLine(lineStart, buffer.limit());
+                lineStart = buffer.limit();
+            }
+            buffer.position(lineStart);
+            buffer.compact();
+            if (!endOfInput && !buffer.hasRemaining()) {
+                throw new IllegalArgumentException("Line " + (reader.lineNumber + 1) + ": longer than "
+                        + BUFFER_SIZE + " bytes");
+            }
+        }
+        return new Scenario(reader.boardSize, reader.boardType, reader.fleet);
+    }
+
+    private void parseLine(int from, int to) {
+        lineNumber++;
+        int fields = split(from, to);
+        if (fields == 0) {
+            return;
+        }
+
+        if (isBoardLine()) {
+            if (fields < 2 || fields > 3) {
+                throw error("expected board,<size>[,<type>]");
+            }
+            boardSize = parseInt(1);
+            if (fields == 3) {
+                String type = field(2);
+                try {
+                    boardType = BoardType.valueOf(type);
+                } catch (IllegalArgumentException e) {
+                    throw error("unknown board type " + type);
+                }
+            }
+            return;
+        }
+
+        if (fields != SHIP_FIELDS) {
+            throw error("expected shipId,size,x1,y1,x2,y2");
+        }
+        fleet.add(field(0), parseInt(1), parseInt(2), parseInt(3), parseInt(4), parseInt(5));
+    }
+
+    /**
+     * Records the trimmed bounds of the comma-separated fields of a line.
+     *
+     * @return the number of fields, 0 for blank and comment lines
+     */
+    private int split(int from, int to) {
+        from = skipBlanks(from, to);
+        to = trimBlanks(from, to);
+        if (from == to || bytes[from] == '#') {
+            return 0;
+        }
+        int fields = 0;
+        int start = from;
+        for (int i = from; i <= to; i++) {
+            if (i == to || bytes[i] == ',') {
+                if (fields == fieldStart.length) {
+                    throw error("too many fields");
+                }
+                int fieldFrom = skipBlanks(start, i);
+                fieldStart[fields] = fieldFrom;
+                fieldEnd[fields] = trimBlanks(fieldFrom, i);
+                fields++;
+                start = i + 1;
+            }
+        }
+        return fields;
+    }
+
+    private boolean isBoardLine() {
+        if (fieldEnd[0] - fieldStart[0] != BOARD_KEYWORD.length) {
+            return false;
+        }
+        for (int i = 0; i < BOARD_KEYWORD.length; i++) {
+            if (bytes[fieldStart[0] + i] != BOARD_KEYWORD[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String field(int index) {
+        if (fieldStart[index] == fieldEnd[index]) {
+            throw error("field " + (index + 1) + " is empty");
+        }
+        return new String(bytes, fieldStart[index], fieldEnd[index] - fieldStart[index], StandardCharsets.UTF_8);
+    }
+
+    private int parseInt(int index) {
+        int i = fieldStart[index];
+        int end = fieldEnd[index];
+        boolean negative = i < end && bytes[i] == '-';
+        if (negative) {
+            i++;
+        }
+        if (i == end) {
+            throw error("field " + (index + 1) + " is not a number");
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw error("field " + (index + 1) + " is not a number");
+            }
+            value = value * 10 + digit;
+            if (value > Integer.MAX_VALUE + 1L) {
+                throw error("field " + (index + 1) + " is out of range");
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw error("field " + (index + 1) + " is out of range");
+        }
+        return (int) value;
+    }
+
+    private int skipBlanks(int from, int to) {
+        while (from < to && isBlank(bytes[from])) {
+            from++;
+        }
+        return from;
+    }
+
+    private int trimBlanks(int from, int to) {
+        while (to > from && isBlank(bytes[to - 1])) {
+            to--;
+        }
+        return to;
+    }
+
+    private static boolean isBlank(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("Line " + lineNumber + ": " + message);
+    }
+}
@@ -0,0 +1,21 @@
+package org.codekart.server;
+
+import lombok.Getter;
+import org.codekart.models.GameState;
+import org.codekart.models.ShotResult;
+
+/**
+ * Server answer to a shot: what it did and whose turn it is now.
+ */
+@Getter
+public class FireReply {
+    private final ShotResult result;
+    private final GameState gameState;
+    private final String currentPlayerId;
+
+    public FireReply(ShotResult result, GameState gameState, String currentPlayerId) {
+        this.result = result;
+        this.gameState = gameState;
+        this.currentPlayerId = currentPlayerId;
+    }
+}
@@ -0,0 +1,135 @@
+package org.codekart.server;
+
+import org.codekart.events.DeltaLog;
+import org.codekart.models.BoardType;
+import org.codekart.models.GameState;
+import org.codekart.models.ShotResult;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Blocking client for {@link GameServer}. One request is in flight at a time;
+ * an instance must not be shared between threads.
+ *
+ * <p>Requests the server rejects throw {@link IllegalStateException} carrying the
+ * server's message.
+ */
+public class GameClient implements AutoCloseable {
+    private final SocketChannel channel;
+    private final ByteBuffer request = ByteBuffer.allocateDirect(Protocol.MAX_REQUEST_SIZE + 4);
+    private final ByteBuffer header = ByteBuffer.allocateDirect(4);
+    private ByteBuffer response = ByteBuffer.allocateDirect(1024);
+
+    public GameClient(InetSocketAddress address) throws IOException {
+        this.channel = SocketChannel.open(address);
+        this.channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+    }
+
+    public String initGame(int boardSize, BoardType boardType) throws IOException {
+        begin(Protocol.INIT).putInt(boardSize).put((byte) boardType.ordinal());
+        return Protocol.getString(call());
+    }
+
+    public boolean addShip(String gameId, String shipId, int size, int posX1, int posY1, int posX2, int posY2)
+            throws IOException {
+        ByteBuffer out = begin(Protocol.ADD_SHIP);
+        Protocol.putString(out, gameId);
+        Protocol.putString(out, shipId);
+        out.putInt(size).putInt(posX1).putInt(posY1).putInt(posX2).putInt(posY2);
+        return call().get() != 0;
+    }
+
+    public void startGame(String gameId) throws IOException {
+        Protocol.putString(begin(Protocol.START), gameId);
+        call();
+    }
+
+    public FireReply fire(String gameId, int x, int y) throws IOException {
+        ByteBuffer out = begin(Protocol.FIRE);
+        Protocol.putString(out, gameId);
+        out.putInt(x).putInt(y);
+        ByteBuffer in = call();
+        ShotResult result = ShotResult.values()[in.get()];
+        GameState state = GameState.values()[in.get()];
+        return new FireReply(result, state, Protocol.getString(in));
+    }
+
+    public String viewBattleField(String gameId, int fromX, int fromY, int rows, int cols) throws IOException {
+        ByteBuffer out = begin(Protocol.VIEW);
+        Protocol.putString(out, gameId);
+        out.putInt(fromX).putInt(fromY).putInt(rows).putInt(cols);
+        ByteBuffer in = call();
+        byte[] text = new byte[in.getInt()];
+        in.get(text);
+        return new String(text, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Fetches the battlefield updates after {@code sinceVersion} and passes each
+     * one to {@code visitor}. One call returns at most a buffer's worth; call
+     * again with the returned version until it stops advancing.
+     *
+     * @return the version of the last update received, or
+     *         {@link DeltaLog#SNAPSHOT_REQUIRED} if the server no longer holds
+     *         the updates after {@code sinceVersion}
+     */
+    public long readDeltas(String gameId, long sinceVersion, DeltaLog.Visitor visitor) throws IOException {
+        ByteBuffer out = begin(Protocol.DELTAS);
+        Protocol.putString(out, gameId);
+        out.putLong(sinceVersion);
+        ByteBuffer in = call();
+        long version = in.getLong();
+        int count = in.getInt();
+        in.limit(in.position() + count * DeltaLog.RECORD_SIZE);
+        DeltaLog.decode(in, sinceVersion + 1, visitor);
+        return version;
+    }
+
+    private ByteBuffer begin(byte opcode) {
+        request.clear().position(4);
+        return request.put(opcode);
+    }
+
+    /**
+     * Sends the pending request and returns the response payload after the
+     * status byte.
+     */
+    private ByteBuffer call() throws IOException {
+        request.putInt(0, request.position() - 4).flip();
+        while (request.hasRemaining()) {
+            channel.write(request);
+        }
+
+        header.clear();
+        readFully(header);
+        int length = header.getInt(0);
+        if (length > response.capacity()) {
+            response = ByteBuffer.allocateDirect(Math.max(length, response.capacity() * 2));
+        }
+        response.clear().limit(length);
+        readFully(response);
+        response.flip();
+        if (response.get() == Protocol.ERROR) {
+            throw new IllegalStateException(Protocol.getString(response));
+        }
+        return response;
+    }
+
+    private void readFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Server closed the connection");
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
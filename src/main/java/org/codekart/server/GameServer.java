@@ -0,0 +1,396 @@
+package org.codekart.server;
+
+import org.codekart.events.DeltaLog;
+import org.codekart.models.BoardType;
+import org.codekart.models.Game;
+import org.codekart.models.ShotResult;
+import org.codekart.service.GameService;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * Embedded TCP front end for a {@link GameService}, speaking the binary
+ * {@link Protocol}.
+ *
+ * <p>One selector thread accepts connections, reads request frames, calls the
+ * service and writes the responses, so an idle connection costs a socket and a
+ * small object, not a thread. A connection only holds a read buffer while it has
+ * a partial frame pending; read and response buffers are direct buffers taken
+ * from a shared {@link BufferPool}. Every request names its game, so any
+ * connection can drive any game and many connections can play at once.
+ *
+ * <p>Service calls run on the selector thread. They are short and lock only their
+ * own game. A {@code VIEW} is clipped to {@link Protocol#MAX_VIEW_SIZE} squares a
+ * side and encoded straight into pooled buffers, chained when the text outgrows
+ * one; text longer than {@link Protocol#MAX_VIEW_BYTES} is refused. Viewers
+ * that follow a game should take one {@code VIEW} and then poll {@code DELTAS},
+ * which costs per move rather than per square and never takes the game's lock.
+ */
+public class GameServer implements AutoCloseable {
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_POOLED_BUFFERS = 4096;
+    // A client that stops reading is dropped once this many response buffers queue up
+    private static final int MAX_QUEUED_BUFFERS = 4 * (Protocol.MAX_VIEW_BYTES / BUFFER_SIZE + 1);
+
+    private final GameService gameService;
+    private final BufferPool bufferPool = new BufferPool(BUFFER_SIZE, MAX_POOLED_BUFFERS);
+    private final PooledText viewText = new PooledText();
+    private final ArrayDeque<ByteBuffer> frame = new ArrayDeque<>();
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread selectorThread;
+    private volatile boolean running;
+
+    public GameServer(GameService gameService) {
+        this.gameService = gameService;
+    }
+
+    /**
+     * Binds to the address (port 0 picks a free port) and starts serving.
+     */
+    public void start(InetSocketAddress address) throws IOException {
+        if (running) {
+            throw new IllegalStateException("Server already started");
+        }
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.configureBlocking(false);
+        serverChannel.bind(address, 4096);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        running = true;
+        selectorThread = new Thread(this::run, "game-server-selector");
+        selectorThread.start();
+    }
+
+    public InetSocketAddress getAddress() throws IOException {
+        return (InetSocketAddress) serverChannel.getLocalAddress();
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        Connection connection = (Connection) key.attachment();
+                        try {
+                            if (key.isReadable()) {
+                                read(connection);
+                            }
+                            if (key.isValid() && key.isWritable()) {
+                                connection.flush();
+                            }
+                        } catch (IOException e) {
+                            connection.close();
+                        }
+                    }
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            if (running) {
+                throw new IllegalStateException("Game server selector failed", e);
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+            key.attach(new Connection(channel, key));
+        }
+    }
+
+    private void read(Connection connection) throws IOException {
+        if (connection.in == null) {
+            connection.in = bufferPool.acquire();
+        }
+        ByteBuffer in = connection.in;
+        int read = connection.channel.read(in);
+        if (read < 0) {
+            connection.close();
+            return;
+        }
+
+        in.flip();
+        while (in.remaining() >= 4) {
+            int length = in.getInt(in.position());
+            if (length <= 0 || length > Protocol.MAX_REQUEST_SIZE) {
+                connection.close();
+                return;
+            }
+            if (in.remaining() < 4 + length) {
+                break;
+            }
+            ByteBuffer request = in.slice(in.position() + 4, length);
+            in.position(in.position() + 4 + length);
+            handle(request, frame);
+            while (!frame.isEmpty()) {
+                connection.send(frame.pollFirst());
+            }
+            if (!connection.channel.isOpen()) {
+                return;
+            }
+        }
+        in.compact();
+        if (in.position() == 0) {
+            bufferPool.release(in);
+            connection.in = null;
+        }
+    }
+
+    /**
+     * Executes one request and appends its response frame to {@code frame} as one
+     * or more pooled buffers, flipped for writing.
+     */
+    void handle(ByteBuffer request, ArrayDeque<ByteBuffer> frame) {
+        ByteBuffer response = bufferPool.acquire();
+        response.position(4);
+        frame.addLast(response);
+        try {
+            byte opcode = request.get();
+            switch (opcode) {
+                case Protocol.INIT -> {
+                    int boardSize = request.getInt();
+                    BoardType boardType = boardType(request.get());
+                    if (boardSize > Protocol.MAX_BOARD_SIZE) {
+                        throw new IllegalArgumentException("Board size must be at most " + Protocol.MAX_BOARD_SIZE);
+                    }
+                    String gameId = gameService.initGame(boardSize, boardType);
+                    response.put(Protocol.OK);
+                    Protocol.putString(response, gameId);
+                }
+                case Protocol.ADD_SHIP -> {
+                    String gameId = Protocol.getString(request);
+                    String shipId = Protocol.getString(request);
+                    boolean placed = gameService.addShip(gameId, shipId, request.getInt(), request.getInt(),
+                            request.getInt(), request.getInt(), request.getInt());
+                    response.put(Protocol.OK).put((byte) (placed ? 1 : 0));
+                }
+                case Protocol.START -> {
+                    gameService.startGame(Protocol.getString(request));
+                    response.put(Protocol.OK);
+                }
+                case Protocol.FIRE -> {
+                    String gameId = Protocol.getString(request);
+                    ShotResult result = gameService.fireShot(gameId, request.getInt(), request.getInt());
+                    Game game = gameService.getGame(gameId);
+                    response.put(Protocol.OK).put((byte) result.ordinal()).put((byte) game.getState().ordinal());
+                    Protocol.putString(response, game.getCurrentPlayer().getId());
+                }
+                case Protocol.VIEW -> {
+                    String gameId = Protocol.getString(request);
+                    int fromX = request.getInt();
+                    int fromY = request.getInt();
+                    int rows = Math.min(request.getInt(), Protocol.MAX_VIEW_SIZE);
+                    int cols = Math.min(request.getInt(), Protocol.MAX_VIEW_SIZE);
+                    // The byte count is patched in once the text has been encoded
+                    response.put(Protocol.OK).putInt(0);
+                    viewText.start(frame);
+                    gameService.renderBattleField(gameId, viewText, fromX, fromY, rows, cols);
+                    viewText.finish();
+                    response.putInt(5, viewText.byteCount);
+                }
+                case Protocol.DELTAS -> {
+                    String gameId = Protocol.getString(request);
+                    long sinceVersion = request.getLong();
+                    // Records go after the status, version and count; as many as fit in one buffer
+                    int recordsStart = response.position() + 1 + 8 + 4;
+                    ByteBuffer records = response.duplicate().position(recordsStart);
+                    long version = gameService.readDeltas(gameId, sinceVersion, records);
+                    int count = (records.position() - recordsStart) / DeltaLog.RECORD_SIZE;
+                    response.put(Protocol.OK).putLong(version).putInt(count);
+                    response.position(records.position());
+                }
+                default -> throw new IllegalArgumentException("Unknown opcode " + opcode);
+            }
+        } catch (RuntimeException | IOException e) {
+            while (frame.size() > 1) {
+                bufferPool.release(frame.pollLast());
+            }
+            response.clear().position(4);
+            response.put(Protocol.ERROR);
+            Protocol.putString(response, errorMessage(e));
+        }
+        int length = -4;
+        for (ByteBuffer part : frame) {
+            length += part.position();
+        }
+        response.putInt(0, length);
+        for (ByteBuffer part : frame) {
+            part.flip();
+        }
+    }
+
+    private static BoardType boardType(byte ordinal) {
+        BoardType[] types = BoardType.values();
+        if (ordinal < 0 || ordinal >= types.length) {
+            throw new IllegalArgumentException("Unknown board type " + ordinal);
+        }
+        return types[ordinal];
+    }
+
+    private static String errorMessage(Exception e) {
+        String message = e instanceof BufferUnderflowException || e instanceof ArrayIndexOutOfBoundsException
+                ? "Malformed request"
+                : String.valueOf(e.getMessage());
+        return message.length() > 1024 ? message.substring(0, 1024) : message;
+    }
+
+    /**
+     * Stops the selector thread and closes every connection.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        selector.wakeup();
+        try {
+            selectorThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (SelectionKey key : selector.keys()) {
+            key.channel().close();
+        }
+        selector.close();
+    }
+
+    /**
+     * UTF-8 encodes appended text into the last buffer of a response frame,
+     * taking another pooled buffer whenever it fills up.
+     */
+    private final class PooledText implements Appendable {
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        private ArrayDeque<ByteBuffer> frame;
+        private int byteCount;
+
+        void start(ArrayDeque<ByteBuffer> frame) {
+            this.frame = frame;
+            this.byteCount = 0;
+            encoder.reset();
+        }
+
+        void finish() {
+            encode(CharBuffer.allocate(0), true);
+            while (encoder.flush(frame.peekLast()).isOverflow()) {
+                frame.addLast(bufferPool.acquire());
+            }
+            frame = null;
+        }
+
+        @Override
+        public Appendable append(CharSequence text) {
+            encode(CharBuffer.wrap(text), false);
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence text, int start, int end) {
+            encode(CharBuffer.wrap(text, start, end), false);
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) {
+            encode(CharBuffer.wrap(new char[]{c}), false);
+            return this;
+        }
+
+        private void encode(CharBuffer chars, boolean endOfInput) {
+            while (true) {
+                ByteBuffer last = frame.peekLast();
+                int before = last.position();
+                CoderResult result = encoder.encode(chars, last, endOfInput);
+                byteCount += last.position() - before;
+                if (byteCount > Protocol.MAX_VIEW_BYTES) {
+                    throw new IllegalArgumentException("View is larger than " + Protocol.MAX_VIEW_BYTES
+                            + " bytes; ask for a smaller window");
+                }
+                if (!result.isOverflow()) {
+                    return;
+                }
+                frame.addLast(bufferPool.acquire());
+            }
+        }
+    }
+
+    private final class Connection {
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        private final ArrayDeque<ByteBuffer> out = new ArrayDeque<>();
+        private ByteBuffer in;
+
+        Connection(SocketChannel channel, SelectionKey key) {
+            this.channel = channel;
+            this.key = key;
+        }
+
+        void send(ByteBuffer response) throws IOException {
+            if (out.size() == MAX_QUEUED_BUFFERS) {
+                bufferPool.release(response);
+                close();
+                return;
+            }
+            out.addLast(response);
+            if (out.size() == 1) {
+                flush();
+            }
+        }
+
+        void flush() throws IOException {
+            while (!out.isEmpty()) {
+                ByteBuffer head = out.peekFirst();
+                channel.write(head);
+                if (head.hasRemaining()) {
+                    key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                    return;
+                }
+                bufferPool.release(out.pollFirst());
+            }
+            key.interestOps(SelectionKey.OP_READ);
+        }
+
+        void close() {
+            key.cancel();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // already closing
+            }
+            if (in != null) {
+                bufferPool.release(in);
+                in = null;
+            }
+            while (!out.isEmpty()) {
+                bufferPool.release(out.pollFirst());
+            }
+        }
+    }
+}
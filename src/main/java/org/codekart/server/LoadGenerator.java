@@ -0,0 +1,171 @@
+package org.codekart.server;
+
+import org.codekart.events.GameEventListener;
+import org.codekart.models.BoardType;
+import org.codekart.models.GameState;
+import org.codekart.service.GameService;
+import org.codekart.service.ShuffledFiringStrategy;
+import org.codekart.util.PackedCoordinates;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loopback load generator for {@link GameServer}. Opens the requested number of
+ * connections up front, each playing its own game, and has a few threads fire
+ * round-robin over them until every game is over, so all connections stay open
+ * and active for the whole run.
+ *
+ * <p>Run it with {@code java -cp target/classes:... org.codekart.server.LoadGenerator
+ * [connections] [threads] [boardSize]}; it starts an embedded server on a free
+ * loopback port. Tens of thousands of connections need a raised open-file limit.
+ */
+public class LoadGenerator {
+
+    public static void main(String[] args) throws Exception {
+        int connections = args.length > 0 ? Integer.parseInt(args[0]) : 1_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int boardSize = args.length > 2 ? Integer.parseInt(args[2]) : 16;
+
+        GameService gameService = new GameService(ShuffledFiringStrategy::new);
+        gameService.setEventListener(GameEventListener.NO_OP);
+        try (GameServer server = new GameServer(gameService)) {
+            server.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            Report report = run(server.getAddress(), connections, threads, boardSize);
+            System.out.println(report);
+            System.out.println("Server hitShip latency: " + gameService.getMetrics().getHitShipLatency());
+        }
+    }
+
+    /**
+     * Plays one game per connection against the server at {@code address}.
+     */
+    public static Report run(InetSocketAddress address, int connections, int threads, int boardSize)
+            throws Exception {
+        AtomicLong games = new AtomicLong();
+        AtomicLong shots = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> slices = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int from = (int) ((long) connections * t / threads);
+                int to = (int) ((long) connections * (t + 1) / threads);
+                slices.add(executor.submit(() -> {
+                    playSlice(address, from, to, boardSize, games, shots);
+                    return null;
+                }));
+            }
+            for (Future<?> slice : slices) {
+                slice.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new Report(connections, games.get(), shots.get(), System.nanoTime() - start);
+    }
+
+    private static void playSlice(InetSocketAddress address, int from, int to, int boardSize,
+                                  AtomicLong games, AtomicLong shots) throws IOException {
+        List<Player> players = new ArrayList<>(to - from);
+        try {
+            for (int i = from; i < to; i++) {
+                players.add(new Player(new GameClient(address), i, boardSize));
+            }
+            int active = players.size();
+            while (active > 0) {
+                active = 0;
+                for (Player player : players) {
+                    if (!player.finished) {
+                        player.fire();
+                        shots.incrementAndGet();
+                        if (player.finished) {
+                            games.incrementAndGet();
+                        } else {
+                            active++;
+                        }
+                    }
+                }
+            }
+        } finally {
+            for (Player player : players) {
+                player.client.close();
+            }
+        }
+    }
+
+    // One connection playing one game, both sides driven from this end
+    private static final class Player {
+        private final GameClient client;
+        private final String gameId;
+        private final int boardSize;
+        private final ShuffledFiringStrategy strategy;
+        private String currentPlayerId = "A";
+        private boolean finished;
+
+        Player(GameClient client, int index, int boardSize) throws IOException {
+            this.client = client;
+            this.boardSize = boardSize;
+            this.strategy = new ShuffledFiringStrategy(index);
+            this.gameId = client.initGame(boardSize, BoardType.BITSET);
+            client.addShip(gameId, "SH1", 2, 1, 1, boardSize / 2 + 1, 1);
+            client.startGame(gameId);
+        }
+
+        void fire() throws IOException {
+            long target = strategy.getPackedStrikeCoordinates(currentPlayerId, boardSize);
+            FireReply reply = client.fire(gameId, PackedCoordinates.x(target), PackedCoordinates.y(target));
+            currentPlayerId = reply.getCurrentPlayerId();
+            finished = reply.getGameState() == GameState.FINISHED;
+        }
+    }
+
+    /**
+     * Outcome of a load run.
+     */
+    public static final class Report {
+        private final int connections;
+        private final long games;
+        private final long shots;
+        private final long elapsedNanos;
+
+        Report(int connections, long games, long shots, long elapsedNanos) {
+            this.connections = connections;
+            this.games = games;
+            this.shots = shots;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getConnections() {
+            return connections;
+        }
+
+        public long getGames() {
+            return games;
+        }
+
+        public long getShots() {
+            return shots;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public double getShotsPerSecond() {
+            return shots / (elapsedNanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d connections, %d games, %d shots in %.2fs (%.0f shots/s)",
+                    connections, games, shots, elapsedNanos / 1e9, getShotsPerSecond());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.codekart.server;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Wire format shared by {@link GameServer} and {@link GameClient}.
+ *
+ * <p>Every message is a frame: a big-endian {@code int} length followed by that
+ * many bytes. A request frame starts with an opcode byte, a response frame with a
+ * status byte. Strings are a {@code short} byte count followed by UTF-8 bytes.
+ *
+ * <pre>
+ * INIT     int boardSize, byte boardType      -> OK string gameId
+ * ADD_SHIP string gameId, string shipId,
+ *          int size, int x1, int y1, int x2, int y2 -> OK byte placed (0/1)
+ * START    string gameId                      -> OK
+ * FIRE     string gameId, int x, int y        -> OK byte shotResult, byte gameState,
+ *                                                  string currentPlayerId
+ * VIEW     string gameId, int fromX, int fromY,
+ *          int rows, int cols                 -> OK int byteCount, UTF-8 text
+ *                                                  (window clipped to the board and
+ *                                                  {@link #MAX_VIEW_SIZE} a side)
+ * DELTAS   string gameId, long sinceVersion   -> OK long version, int count,
+ *                                                  count {@link org.codekart.events.DeltaLog} records
+ * any failure                                 -> ERROR string message
+ * </pre>
+ *
+ * Enum values travel as their ordinals. The server rejects boards wider than
+ * {@link #MAX_BOARD_SIZE} and board types it does not know with an ERROR.
+ */
+final class Protocol {
+    static final int MAX_REQUEST_SIZE = 4 * 1024;
+    // Largest board a client may create; game state grows with its area
+    static final int MAX_BOARD_SIZE = 1024;
+    // Largest VIEW window side, and the most text one VIEW may return
+    static final int MAX_VIEW_SIZE = 256;
+    static final int MAX_VIEW_BYTES = 1024 * 1024;
+
+    static final byte INIT = 1;
+    static final byte ADD_SHIP = 2;
+    static final byte START = 3;
+    static final byte FIRE = 4;
+    static final byte VIEW = 5;
+    static final byte DELTAS = 6;
+
+    static final byte OK = 0;
+    static final byte ERROR = 1;
+
+    private Protocol() {
+    }
+
+    static void putString(ByteBuffer out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.putShort((short) bytes.length);
+        out.put(bytes);
+    }
+
+    static String getString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getShort() & 0xFFFF];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,152 @@
+package org.codekart.service;
+
+import org.codekart.models.ShotResult;
+import org.codekart.models.TerritoryLayout;
+import org.codekart.util.PackedCoordinates;
+import org.codekart.util.Pair;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Hunt/target firing driven by shot results. For every player it keeps a
+ * {@link DensityMap} of where the opponent's remaining ships can still fit and
+ * fires at the most likely square; after a hit the map concentrates on the
+ * squares around it until the ship sinks.
+ *
+ * <p>The strategy has to know the fleet: pass the size of every ship one player
+ * owns. Results arrive through {@link #onShotResult}; without them it degrades to
+ * firing at the squares most ships could cover.
+ *
+ * <p>With more than two players every opponent territory gets its own map. A
+ * player works through the opponents after it in turn order, moving on once it
+ * has sunk a territory's whole fleet.
+ */
+public class DensityFiringStrategy implements FiringStrategy {
+
+    private final Map<String, Targets> targets = new HashMap<>();
+    private final int[] shipSizes;
+    private final SplittableRandom random;
+
+    public DensityFiringStrategy(int... shipSizes) {
+        this(new SplittableRandom(), shipSizes);
+    }
+
+    public DensityFiringStrategy(long seed, int... shipSizes) {
+        this(new SplittableRandom(seed), shipSizes);
+    }
+
+    public DensityFiringStrategy(SplittableRandom random, int... shipSizes) {
+        if (shipSizes.length == 0) {
+            throw new IllegalArgumentException("Fleet must contain at least one ship");
+        }
+        for (int shipSize : shipSizes) {
+            if (shipSize <= 0) {
+                throw new IllegalArgumentException("Invalid ship size: " + shipSize);
+            }
+        }
+        this.shipSizes = shipSizes.clone();
+        this.random = random;
+    }
+
+    @Override
+    public Pair<Integer, Integer> getStrikeCoordinates(String playerId, int boardSize) {
+        long coordinates = getPackedStrikeCoordinates(playerId, boardSize);
+        return new Pair<>(PackedCoordinates.x(coordinates), PackedCoordinates.y(coordinates));
+    }
+
+    @Override
+    public long getPackedStrikeCoordinates(String playerId, int boardSize) {
+        // Player A attacks Player B's territory (right half), Player B the left half
+        Targets playerTargets = targets.computeIfAbsent(playerId, k -> new Targets());
+        if (playerTargets.layout == null || playerTargets.layout.getBoardSize() != boardSize
+                || playerTargets.layout.getPlayerCount() != 2) {
+            playerTargets.forLayout(TerritoryLayout.of(boardSize, 2), "A".equals(playerId) ? 0 : 1, shipSizes);
+        }
+        return strike(playerId, playerTargets);
+    }
+
+    @Override
+    public long getPackedStrikeCoordinates(String playerId, TerritoryLayout layout, int playerIndex) {
+        Targets playerTargets = targets.computeIfAbsent(playerId, k -> new Targets());
+        playerTargets.forLayout(layout, playerIndex, shipSizes);
+        return strike(playerId, playerTargets);
+    }
+
+    private long strike(String playerId, Targets playerTargets) {
+        TerritoryLayout layout = playerTargets.layout;
+        int playerCount = layout.getPlayerCount();
+        for (int i = 1; i < playerCount; i++) {
+            int territory = (playerTargets.own + i) % playerCount;
+            DensityMap densityMap = playerTargets.maps[territory];
+            if (densityMap.isCleared()) {
+                continue;
+            }
+            int offset = densityMap.next(random);
+            if (offset >= 0) {
+                int boardSize = layout.getBoardSize();
+                return PackedCoordinates.pack(layout.getStartRow(territory) + offset / boardSize, offset % boardSize);
+            }
+        }
+        throw new IllegalStateException("No untargeted coordinates left for player " + playerId);
+    }
+
+    @Override
+    public void onShotResult(String playerId, int x, int y, ShotResult result, int sunkShipSize) {
+        Targets playerTargets = targets.get(playerId);
+        if (playerTargets == null) {
+            return;
+        }
+        TerritoryLayout layout = playerTargets.layout;
+        int boardSize = layout.getBoardSize();
+        if (x < 0 || x >= boardSize || y < 0 || y >= boardSize) {
+            return;
+        }
+        int territory = layout.territoryOf(x);
+        if (territory == playerTargets.own) {
+            return;
+        }
+        int row = x - layout.getStartRow(territory);
+        playerTargets.maps[territory].record(row * boardSize + y, result.isHit(), sunkShipSize);
+    }
+
+    @Override
+    public void reset() {
+        for (Targets playerTargets : targets.values()) {
+            for (DensityMap densityMap : playerTargets.maps) {
+                if (densityMap != null) {
+                    densityMap.reset();
+                }
+            }
+        }
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Probability Density Firing Strategy";
+    }
+
+    // One player's view of the board: a density map per opponent territory
+    private static final class Targets {
+        private TerritoryLayout layout;
+        private int own;
+        private DensityMap[] maps = new DensityMap[0];
+
+        // Keeps the maps while the territories keep their shape, so a reused board carries on
+        void forLayout(TerritoryLayout layout, int own, int[] shipSizes) {
+            boolean sameShape = this.layout != null && this.layout.getBoardSize() == layout.getBoardSize()
+                    && this.layout.getPlayerCount() == layout.getPlayerCount();
+            this.layout = layout;
+            this.own = own;
+            if (!sameShape) {
+                maps = new DensityMap[layout.getPlayerCount()];
+            }
+            for (int territory = 0; territory < maps.length; territory++) {
+                if (territory != own && maps[territory] == null) {
+                    maps[territory] = new DensityMap(shipSizes).forBoard(layout.getBoardSize(),
+                            layout.getEndRow(territory) - layout.getStartRow(territory));
+                }
+            }
+        }
+    }
+}
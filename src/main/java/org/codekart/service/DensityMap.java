@@ -0,0 +1,388 @@
+package org.codekart.service;
+
+import org.codekart.util.Bits;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Probability-density map over one opponent territory for a known fleet of
+ * square ships.
+ *
+ * <p>Each cell scores the weighted number of ship placements that still fit over
+ * it. A placement stops fitting once it covers a miss or a square of a sunk ship,
+ * and every unresolved hit it covers adds {@link #hitWeight} to its weight. That
+ * weight is larger than any score reachable from open water alone, so after a
+ * hit the map switches from hunting to finishing off the wounded ship by itself.
+ *
+ * <p>Shot results only touch the placements that cover the shot square, so an
+ * update costs {@code O(s^4)} per distinct ship size {@code s}, independent of the
+ * board size. Scores live in a {@link ScoreTree}, so choosing a target takes
+ * {@code O(log n)}.
+ *
+ * <p>Sinking a ship takes its placements out of every square's score. Away from
+ * the edges and from earlier shots each size covers a square exactly
+ * {@code s^2} times, so that part is one range add per row; only the edge
+ * strips and the squares around earlier shots are visited one by one.
+ */
+final class DensityMap {
+    private static final byte UNKNOWN = 0;
+    private static final byte FIRED = 1;
+    private static final byte MISS = 2;
+    private static final byte HIT = 3;
+    private static final byte SUNK = 4;
+    // Largest territory the score tree can index
+    private static final long MAX_CELLS = ScoreTree.MAX_SIZE;
+    // Added to a square once it is fired at, so it drops below every unfired square
+    private static final long FIRED_PENALTY = Long.MIN_VALUE / 4;
+
+    // Distinct ship sizes and how many ships of each size are still afloat
+    private final int[] sizes;
+    private final int[] fleetCounts;
+    private final int[] remaining;
+
+    private int boardSize;
+    private int rows;
+    private int cols;
+    private long hitWeight;
+    private byte[] cellStates = new byte[0];
+    private ScoreTree scoreTree = new ScoreTree(0);
+    // Squares whose per-size scores may have moved away from the open-water value
+    private long[] touched = new long[0];
+    private int[] touchedCells = new int[0];
+    private int touchedCount;
+    // Per size: score contribution, blocked placements and unresolved hits per placement
+    private long[][] sizeScores;
+    private boolean[][] blocked;
+    private int[][] placementHits;
+
+    DensityMap(int[] shipSizes) {
+        int[] sorted = shipSizes.clone();
+        Arrays.sort(sorted);
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                distinct++;
+            }
+        }
+        this.sizes = new int[distinct];
+        this.fleetCounts = new int[distinct];
+        int k = -1;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sizes[++k] = sorted[i];
+            }
+            fleetCounts[k]++;
+        }
+        this.remaining = new int[distinct];
+        this.sizeScores = new long[distinct][];
+        this.blocked = new boolean[distinct][];
+        this.placementHits = new int[distinct][];
+    }
+
+    /**
+     * Prepares the map for a territory of {@code rows x boardSize} cells,
+     * rebuilding it if the board size changed.
+     *
+     * @throws IllegalArgumentException if the territory has more cells than an array can index
+     */
+    DensityMap forBoard(int boardSize, int rows) {
+        if ((long) rows * boardSize > MAX_CELLS) {
+            throw new IllegalArgumentException("Territory of " + rows + "x" + boardSize
+                    + " squares is too large for a density map");
+        }
+        if (this.boardSize != boardSize || this.rows != rows) {
+            this.boardSize = boardSize;
+            this.rows = rows;
+            this.cols = boardSize;
+            this.cellStates = new byte[rows * cols];
+            this.scoreTree = new ScoreTree(rows * cols);
+            this.touched = Bits.words(rows * cols);
+            this.touchedCells = new int[64];
+            this.touchedCount = 0;
+            for (int k = 0; k < sizes.length; k++) {
+                int placements = placementRows(k) * placementCols(k);
+                sizeScores[k] = new long[rows * cols];
+                blocked[k] = new boolean[placements];
+                placementHits[k] = new int[placements];
+            }
+            fill();
+        }
+        return this;
+    }
+
+    /**
+     * Forgets every shot, keeping the arrays for reuse.
+     */
+    void reset() {
+        if (boardSize == 0) {
+            return;
+        }
+        Arrays.fill(cellStates, UNKNOWN);
+        for (int i = 0; i < touchedCount; i++) {
+            Bits.clear(touched, touchedCells[i]);
+        }
+        touchedCount = 0;
+        for (int k = 0; k < sizes.length; k++) {
+            Arrays.fill(blocked[k], false);
+            Arrays.fill(placementHits[k], 0);
+        }
+        fill();
+    }
+
+    /**
+     * Returns whether every ship of the fleet has been sunk.
+     */
+    boolean isCleared() {
+        for (int count : remaining) {
+            if (count > 0) {
+                return false;
+            }
+        }
+        return boardSize != 0;
+    }
+
+    int getCols() {
+        return cols;
+    }
+
+    int getRows() {
+        return rows;
+    }
+
+    private void fill() {
+        System.arraycopy(fleetCounts, 0, remaining, 0, sizes.length);
+        hitWeight = 1;
+        for (int k = 0; k < sizes.length; k++) {
+            hitWeight += (long) remaining[k] * sizes[k] * sizes[k];
+        }
+        // With nothing fired, a cell is covered by every placement whose rows
+        // and columns both span it
+        for (int x = 0; x < rows; x++) {
+            for (int y = 0; y < cols; y++) {
+                int cell = x * cols + y;
+                long score = 0;
+                for (int k = 0; k < sizes.length; k++) {
+                    long sizeScore = (long) coverCount(x, sizes[k], placementRows(k))
+                            * coverCount(y, sizes[k], placementCols(k));
+                    sizeScores[k][cell] = sizeScore;
+                    score += remaining[k] * sizeScore;
+                }
+                scoreTree.set(cell, score);
+            }
+        }
+        scoreTree.build();
+    }
+
+    /**
+     * Picks the unfired cell with the highest score, breaking ties at random, and
+     * marks it as fired.
+     *
+     * @return the cell offset, or -1 if every cell has been fired at
+     */
+    int next(SplittableRandom random) {
+        // Fired squares carry FIRED_PENALTY, so a negative maximum means none are left
+        if (scoreTree.max() < 0) {
+            return -1;
+        }
+        int best = scoreTree.pick(random);
+        fire(best);
+        return best;
+    }
+
+    void record(int cell, boolean hit, int sunkShipSize) {
+        if (cellStates[cell] == MISS || cellStates[cell] >= HIT) {
+            return;
+        }
+        if (cellStates[cell] == UNKNOWN) {
+            fire(cell);
+        }
+        touchAround(cell);
+        if (!hit) {
+            cellStates[cell] = MISS;
+            block(cell);
+            return;
+        }
+        cellStates[cell] = HIT;
+        int cx = cell / cols;
+        int cy = cell % cols;
+        for (int k = 0; k < sizes.length; k++) {
+            int size = sizes[k];
+            int placementCols = placementCols(k);
+            for (int px = Math.max(0, cx - size + 1); px <= Math.min(cx, placementRows(k) - 1); px++) {
+                for (int py = Math.max(0, cy - size + 1); py <= Math.min(cy, placementCols - 1); py++) {
+                    int placement = px * placementCols + py;
+                    if (!blocked[k][placement]) {
+                        placementHits[k][placement]++;
+                        addToPlacement(k, px, py, hitWeight);
+                    }
+                }
+            }
+        }
+        if (sunkShipSize > 0) {
+            recordSunk(cell, sunkShipSize);
+        }
+    }
+
+    private void fire(int cell) {
+        cellStates[cell] = FIRED;
+        scoreTree.add(cell, cell + 1, FIRED_PENALTY);
+    }
+
+    /**
+     * Notes every square a placement over {@code cell} can cover, as those are the
+     * only squares a result at {@code cell} can change.
+     */
+    private void touchAround(int cell) {
+        int reach = sizes[sizes.length - 1] - 1;
+        int cx = cell / cols;
+        int cy = cell % cols;
+        for (int x = Math.max(0, cx - reach); x <= Math.min(rows - 1, cx + reach); x++) {
+            for (int y = Math.max(0, cy - reach); y <= Math.min(cols - 1, cy + reach); y++) {
+                int square = x * cols + y;
+                if (!Bits.get(touched, square)) {
+                    Bits.set(touched, square);
+                    if (touchedCount == touchedCells.length) {
+                        touchedCells = Arrays.copyOf(touchedCells, touchedCount * 2);
+                    }
+                    touchedCells[touchedCount++] = square;
+                }
+            }
+        }
+    }
+
+    private void recordSunk(int cell, int shipSize) {
+        int k = Arrays.binarySearch(sizes, shipSize);
+        int[] wreck = k >= 0 ? findWreck(cell, k) : null;
+        if (wreck == null) {
+            // Fleet does not match what we were told; retire just this square
+            cellStates[cell] = SUNK;
+            block(cell);
+        } else {
+            for (int x = wreck[0]; x < wreck[0] + shipSize; x++) {
+                for (int y = wreck[1]; y < wreck[1] + shipSize; y++) {
+                    cellStates[x * cols + y] = SUNK;
+                    block(x * cols + y);
+                }
+            }
+        }
+        if (k >= 0 && remaining[k] > 0) {
+            remaining[k]--;
+            retireOne(k);
+        }
+    }
+
+    /**
+     * Takes one ship's worth of size {@code sizes[k]} placements out of every
+     * square's score.
+     */
+    private void retireOne(int k) {
+        int size = sizes[k];
+        long openWater = (long) size * size;
+        long[] sizeScore = sizeScores[k];
+        // Squares in this block are covered by size^2 placements until a shot lands nearby
+        int firstRow = size - 1;
+        int lastRow = rows - size;
+        int firstCol = size - 1;
+        int lastCol = cols - size;
+        for (int x = 0; x < rows; x++) {
+            int rowStart = x * cols;
+            if (x < firstRow || x > lastRow || firstCol > lastCol) {
+                subtract(sizeScore, rowStart, rowStart + cols);
+            } else {
+                subtract(sizeScore, rowStart, rowStart + firstCol);
+                scoreTree.add(rowStart + firstCol, rowStart + lastCol + 1, -openWater);
+                subtract(sizeScore, rowStart + lastCol + 1, rowStart + cols);
+            }
+        }
+        for (int i = 0; i < touchedCount; i++) {
+            int cell = touchedCells[i];
+            int x = cell / cols;
+            int y = cell % cols;
+            if (x >= firstRow && x <= lastRow && y >= firstCol && y <= lastCol) {
+                scoreTree.add(cell, cell + 1, openWater - sizeScore[cell]);
+            }
+        }
+    }
+
+    private void subtract(long[] sizeScore, int from, int to) {
+        for (int cell = from; cell < to; cell++) {
+            scoreTree.add(cell, cell + 1, -sizeScore[cell]);
+        }
+    }
+
+    /**
+     * Returns the top-left corner of a placement of size {@code sizes[k]} over
+     * {@code cell} made up of unresolved hits only, or {@code null}.
+     */
+    private int[] findWreck(int cell, int k) {
+        int size = sizes[k];
+        int cx = cell / cols;
+        int cy = cell % cols;
+        for (int px = Math.max(0, cx - size + 1); px <= Math.min(cx, placementRows(k) - 1); px++) {
+            for (int py = Math.max(0, cy - size + 1); py <= Math.min(cy, placementCols(k) - 1); py++) {
+                if (allHit(px, py, size)) {
+                    return new int[]{px, py};
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean allHit(int px, int py, int size) {
+        for (int x = px; x < px + size; x++) {
+            for (int y = py; y < py + size; y++) {
+                if (cellStates[x * cols + y] != HIT) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes every placement over {@code cell} that still fits.
+     */
+    private void block(int cell) {
+        int cx = cell / cols;
+        int cy = cell % cols;
+        for (int k = 0; k < sizes.length; k++) {
+            int size = sizes[k];
+            int placementCols = placementCols(k);
+            for (int px = Math.max(0, cx - size + 1); px <= Math.min(cx, placementRows(k) - 1); px++) {
+                for (int py = Math.max(0, cy - size + 1); py <= Math.min(cy, placementCols - 1); py++) {
+                    int placement = px * placementCols + py;
+                    if (!blocked[k][placement]) {
+                        blocked[k][placement] = true;
+                        addToPlacement(k, px, py, -(1 + hitWeight * placementHits[k][placement]));
+                    }
+                }
+            }
+        }
+    }
+
+    private void addToPlacement(int k, int px, int py, long delta) {
+        int size = sizes[k];
+        long scoreDelta = remaining[k] * delta;
+        long[] sizeScore = sizeScores[k];
+        for (int x = px; x < px + size; x++) {
+            int rowStart = x * cols;
+            for (int y = py; y < py + size; y++) {
+                sizeScore[rowStart + y] += delta;
+            }
+            scoreTree.add(rowStart + py, rowStart + py + size, scoreDelta);
+        }
+    }
+
+    private int placementRows(int k) {
+        return Math.max(0, rows - sizes[k] + 1);
+    }
+
+    private int placementCols(int k) {
+        return Math.max(0, cols - sizes[k] + 1);
+    }
+
+    // Number of placement origins along one axis whose span covers position p
+    private static int coverCount(int p, int size, int origins) {
+        return Math.max(0, Math.min(p, origins - 1) - Math.max(0, p - size + 1) + 1);
+    }
+}
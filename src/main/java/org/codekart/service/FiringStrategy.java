@@ -1,8 +1,73 @@
 package org.codekart.service;
 
+import org.codekart.models.ShotResult;
+import org.codekart.models.TerritoryLayout;
+import org.codekart.util.Coordinate;
+import org.codekart.util.PackedCoordinates;
 import org.codekart.util.Pair;
+import java.util.concurrent.ThreadLocalRandom;
 
 public interface FiringStrategy {
     Pair<Integer, Integer> getStrikeCoordinates(String playerId, int boardSize);
+
+    /**
+     * Returns the next target packed with {@link PackedCoordinates}. Strategies on
+     * the hot path override this to avoid allocating a {@link Pair} per shot; the
+     * default adapts {@link #getStrikeCoordinates(String, int)}.
+     */
+    default long getPackedStrikeCoordinates(String playerId, int boardSize) {
+        Pair<Integer, Integer> coordinates = getStrikeCoordinates(playerId, boardSize);
+        return PackedCoordinates.pack(coordinates.getFirst(), coordinates.getSecond());
+    }
+
+    /**
+     * Returns the next target, packed, for the player at {@code playerIndex} on a
+     * board split by {@code layout}; any square outside the player's own
+     * territory is fair game. Games with more than two players call this instead
+     * of {@link #getPackedStrikeCoordinates(String, int)}.
+     *
+     * <p>The shipped strategies track their shots per territory. The default
+     * delegates two-player layouts to {@link #getPackedStrikeCoordinates(String, int)}
+     * and otherwise picks a uniformly random square outside the player's rows;
+     * squares already hit are rejected by the game without using up the turn, so
+     * a strategy written for two players still finishes free-for-all games.
+     */
+    default long getPackedStrikeCoordinates(String playerId, TerritoryLayout layout, int playerIndex) {
+        if (layout.getPlayerCount() == 2) {
+            return getPackedStrikeCoordinates(playerId, layout.getBoardSize());
+        }
+        int boardSize = layout.getBoardSize();
+        int ownStartX = layout.getStartRow(playerIndex);
+        int ownRows = layout.getEndRow(playerIndex) - ownStartX;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int row = random.nextInt(boardSize - ownRows);
+        return PackedCoordinates.pack(row < ownStartX ? row : row + ownRows, random.nextInt(boardSize));
+    }
+
+    /**
+     * Returns the next target as a {@link Coordinate}, for callers that want a
+     * value object without the boxing of {@link #getStrikeCoordinates}.
+     */
+    default Coordinate getStrikeCoordinate(String playerId, int boardSize) {
+        return Coordinate.unpack(getPackedStrikeCoordinates(playerId, boardSize));
+    }
+
     String getStrategyName();
-} 
\ No newline at end of file
+
+    /**
+     * Reports the outcome of a shot this strategy chose for {@code playerId}.
+     * Called once per accepted shot, never with {@link ShotResult#REJECTED};
+     * strategies that do not learn from results ignore it.
+     *
+     * @param sunkShipSize size of the ship the shot sank, or 0 unless the result is
+     *                     {@link ShotResult#SUNK}
+     */
+    default void onShotResult(String playerId, int x, int y, ShotResult result, int sunkShipSize) {
+    }
+
+    /**
+     * Forgets all shots fired so far so the instance can drive a new game.
+     */
+    default void reset() {
+    }
+}
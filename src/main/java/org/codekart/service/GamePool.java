@@ -0,0 +1,92 @@
+package org.codekart.service;
+
+import org.codekart.models.BoardType;
+import org.codekart.models.Game;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Recycles {@link Game} instances, keyed by board size, for loops that play
+ * millions of short games. A released game is reset in place on its next
+ * {@link #acquire(int)}: boards clear their arrays instead of being rebuilt, so a
+ * steady stream of games allocates only ships and ids.
+ *
+ * <p>Acquired games get sequential ids ({@code prefix-1}, {@code prefix-2}, ...)
+ * instead of UUIDs. A game must not be used after it is released. At most
+ * {@code maxIdlePerSize} released games are kept per size; the rest are left to
+ * the garbage collector. Safe to share between threads.
+ */
+public class GamePool {
+    public static final int DEFAULT_MAX_IDLE_PER_SIZE = 1024;
+
+    private final BoardType boardType;
+    private final String idPrefix;
+    private final int maxIdlePerSize;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Integer, ArrayDeque<Game>> idleBySize = new ConcurrentHashMap<>();
+
+    public GamePool(BoardType boardType, String idPrefix) {
+        this(boardType, idPrefix, DEFAULT_MAX_IDLE_PER_SIZE);
+    }
+
+    public GamePool(BoardType boardType, String idPrefix, int maxIdlePerSize) {
+        if (maxIdlePerSize < 0) {
+            throw new IllegalArgumentException("Max idle games must not be negative");
+        }
+        this.boardType = boardType;
+        this.idPrefix = idPrefix;
+        this.maxIdlePerSize = maxIdlePerSize;
+    }
+
+    /**
+     * Returns a game with no ships on a {@code boardSize} board, reusing a
+     * released one when available.
+     */
+    public Game acquire(int boardSize) {
+        String gameId = idPrefix + "-" + sequence.incrementAndGet();
+        ArrayDeque<Game> idle = idleBySize.get(boardSize);
+        Game game = null;
+        if (idle != null) {
+            synchronized (idle) {
+                game = idle.pollLast();
+            }
+        }
+        if (game == null) {
+            return new Game(gameId, boardType.create(boardSize));
+        }
+        game.reset(gameId);
+        return game;
+    }
+
+    /**
+     * Hands a game back for reuse.
+     *
+     * @throws IllegalArgumentException if the game's board is not of this pool's type
+     */
+    public void release(Game game) {
+        if (game.getBoard().getType() != boardType) {
+            throw new IllegalArgumentException("Pool holds " + boardType + " boards, not " + game.getBoard().getType());
+        }
+        ArrayDeque<Game> idle = idleBySize.computeIfAbsent(game.getBoard().getSize(), size -> new ArrayDeque<>());
+        synchronized (idle) {
+            if (idle.size() < maxIdlePerSize) {
+                idle.addLast(game);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of released games waiting for reuse.
+     */
+    public int getIdleCount() {
+        int count = 0;
+        for (ArrayDeque<Game> idle : idleBySize.values()) {
+            synchronized (idle) {
+                count += idle.size();
+            }
+        }
+        return count;
+    }
+}
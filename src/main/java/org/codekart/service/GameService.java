@@ -1,115 +1,468 @@
 package org.codekart.service;
 
+import org.codekart.events.ConsoleEventListener;
+import org.codekart.events.DeltaLog;
+import org.codekart.events.GameEventListener;
+import org.codekart.metrics.GameMetrics;
 import org.codekart.models.*;
-import org.codekart.util.Pair;
+import org.codekart.persistence.GameSnapshots;
+import org.codekart.persistence.Scenario;
+import org.codekart.persistence.ScenarioReader;
+import org.codekart.util.PackedCoordinates;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
+/**
+ * Hosts any number of games at once, keyed by the id returned from
+ * {@link #initGame(int)}. Each game has its own lock, so calls on different
+ * games run in parallel.
+ *
+ * <p>The methods without a game id operate on the game most recently created
+ * through {@link #initGame(int)}.
+ */
 public class GameService {
-    private Game game;
-    private FiringStrategy firingStrategy;
+    private final Map<String, GameSession> sessions = new ConcurrentHashMap<>();
+    private final Supplier<FiringStrategy> firingStrategyFactory;
+    private volatile GameSession currentSession;
+    private volatile GameEventListener eventListener = new ConsoleEventListener();
+    private final GameMetrics metrics = new GameMetrics();
+    // Records kept per game for delta viewers; 0 sizes the log from the board
+    private volatile int deltaLogCapacity;
 
+    /**
+     * Creates a service that asks the factory for a new strategy for every game.
+     * Strategies remember the shots they fired, so games never share an instance.
+     */
+    public GameService(Supplier<FiringStrategy> firingStrategyFactory) {
+        this.firingStrategyFactory = firingStrategyFactory;
+    }
+
+    /**
+     * Creates a service whose games all share one strategy instance. That only
+     * works while the service plays one game at a time.
+     *
+     * @deprecated pass a factory such as {@code RandomFiringStrategy::new} so
+     *             every game gets its own strategy
+     */
+    @Deprecated
     public GameService(FiringStrategy firingStrategy) {
-        this.firingStrategy = firingStrategy;
+        this(() -> firingStrategy);
     }
 
     public String initGame(int boardSize) {
+        return initGame(boardSize, BoardType.GRID);
+    }
+
+    public String initGame(int boardSize, BoardType boardType) {
+        return initGame(boardSize, boardType, 2);
+    }
+
+    /**
+     * Creates a free-for-all game whose rows are split into {@code playerCount}
+     * territories. Ships go in through {@link Game#addShip(Player, String, int, int, int)}
+     * and the firing strategy is asked for targets through the layout-aware
+     * {@link FiringStrategy#getPackedStrikeCoordinates(String, TerritoryLayout, int)}.
+     *
+     * @throws IllegalArgumentException if the board has fewer rows than players
+     */
+    public String initGame(int boardSize, BoardType boardType, int playerCount) {
         if (boardSize <= 0 || boardSize % 2 != 0) {
             throw new IllegalArgumentException("Board size must be a positive even number");
         }
-        
+
         String gameId = UUID.randomUUID().toString();
-        this.game = new Game(gameId, boardSize);
+        Game game = new Game(gameId, boardType.create(boardSize, playerCount));
+        int capacity = deltaLogCapacity;
+        DeltaLog deltaLog = new DeltaLog(capacity > 0 ? capacity : DeltaLog.capacityFor(boardSize));
+        game.setEventListener(GameEventListener.compose(eventListener, metrics, deltaLog));
+        FiringStrategy firingStrategy = firingStrategyFactory.get();
+        GameSession session = new GameSession(game, firingStrategy,
+            metrics.forStrategy(firingStrategy.getStrategyName()), deltaLog);
+        metrics.recordGameCreated();
+        sessions.put(gameId, session);
+        this.currentSession = session;
         return gameId;
     }
 
     public boolean addShip(String shipId, int size, int posX1, int posY1, int posX2, int posY2) {
-        validateGameExists();
-        return game.addShip(shipId, size, posX1, posY1, posX2, posY2);
+        return addShip(currentSession(), shipId, size, posX1, posY1, posX2, posY2);
+    }
+
+    public boolean addShip(String gameId, String shipId, int size, int posX1, int posY1, int posX2, int posY2) {
+        return addShip(session(gameId), shipId, size, posX1, posY1, posX2, posY2);
+    }
+
+    private boolean addShip(GameSession session, String shipId, int size, int posX1, int posY1, int posX2, int posY2) {
+        session.lock();
+        try {
+            return session.getGame().addShip(shipId, size, posX1, posY1, posX2, posY2);
+        } finally {
+            session.unlock();
+        }
+    }
+
+    /**
+     * Adds a whole fleet in one validated pass, all or nothing.
+     *
+     * @throws IllegalArgumentException naming the first ship that cannot be placed
+     */
+    public void addShips(Fleet fleet) {
+        addShips(currentSession(), fleet);
+    }
+
+    public void addShips(String gameId, Fleet fleet) {
+        addShips(session(gameId), fleet);
+    }
+
+    private void addShips(GameSession session, Fleet fleet) {
+        session.lock();
+        try {
+            session.getGame().addShips(fleet);
+        } finally {
+            session.unlock();
+        }
+    }
+
+    /**
+     * Creates a game from a scenario file (see {@link ScenarioReader}) and places
+     * its fleet. The game becomes the current game.
+     *
+     * @return the id of the new game
+     */
+    public String loadScenario(Path file) throws IOException {
+        Scenario scenario = ScenarioReader.read(file);
+        if (scenario.getBoardSize() == 0) {
+            throw new IllegalArgumentException("Scenario " + file + " has no board line");
+        }
+        String gameId = initGame(scenario.getBoardSize(), scenario.getBoardType());
+        try {
+            addShips(gameId, scenario.getFleet());
+        } catch (RuntimeException e) {
+            removeGame(gameId);
+            throw e;
+        }
+        return gameId;
     }
 
     public void startGame() {
-        validateGameExists();
-        game.startGame();
+        startGame(currentSession());
+    }
+
+    public void startGame(String gameId) {
+        startGame(session(gameId));
+    }
+
+    private void startGame(GameSession session) {
+        session.lock();
+        try {
+            session.getGame().startGame();
+        } finally {
+            session.unlock();
+        }
     }
 
     public void playTurn() {
-        validateGameExists();
-        
+        playTurn(currentSession());
+    }
+
+    public void playTurn(String gameId) {
+        playTurn(session(gameId));
+    }
+
+    private void playTurn(GameSession session) {
+        session.lock();
+        try {
+            long start = System.nanoTime();
+            playTurnLocked(session);
+            metrics.recordPlayTurn(System.nanoTime() - start);
+        } finally {
+            session.unlock();
+        }
+    }
+
+    private void playTurnLocked(GameSession session) {
+        Game game = session.getGame();
+
         if (game.getState() != GameState.IN_PROGRESS) {
             throw new IllegalStateException("Game is not in progress");
         }
-        
+
         if (game.isGameFinished()) {
-            System.out.println("Game is already finished!");
             return;
         }
 
         Player currentPlayer = game.getCurrentPlayer();
-        Pair<Integer, Integer> coordinates = firingStrategy.getStrikeCoordinates(
-            currentPlayer.getId(), game.getBoard().getSize()
-        );
+        FiringStrategy strategy = session.getFiringStrategy();
+        long strikeStart = System.nanoTime();
+        long coordinates = StrategyTurns.target(game, strategy);
+        long strikeNanos = System.nanoTime() - strikeStart;
+        metrics.recordStrikeCoordinates(strikeNanos);
+
+        int targetX = PackedCoordinates.x(coordinates);
+        int targetY = PackedCoordinates.y(coordinates);
+
+        long shotStart = System.nanoTime();
+        ShotResult result = game.fireShot(currentPlayer, targetX, targetY);
+        metrics.recordHitShip(System.nanoTime() - shotStart);
+        session.getStrategyMetrics().recordShot(strikeNanos, result);
+        StrategyTurns.report(game, strategy, currentPlayer, targetX, targetY, result);
+
+        // Report remaining ships count
+        game.getEventListener().onTurnEnded(game);
+    }
+
+    public void viewBattleField() {
+        viewBattleField(currentSession());
+    }
+
+    public void viewBattleField(String gameId) {
+        viewBattleField(session(gameId));
+    }
 
-        // Determine target coordinates based on current player
-        int targetX, targetY;
-        if ("A".equals(currentPlayer.getId())) {
-            // Player A attacks Player B's territory
-            targetX = coordinates.getFirst();
-            targetY = coordinates.getSecond();
-        } else {
-            // Player B attacks Player A's territory
-            targetX = coordinates.getFirst();
-            targetY = coordinates.getSecond();
+    /**
+     * Streams a window of the game's battlefield to {@code out}; see
+     * {@link Game#renderBattleField(Appendable, int, int, int, int)}.
+     */
+    public void renderBattleField(String gameId, Appendable out, int fromX, int fromY, int rows, int cols)
+            throws IOException {
+        GameSession session = session(gameId);
+        session.lock();
+        try {
+            session.getGame().renderBattleField(out, fromX, fromY, rows, cols);
+        } finally {
+            session.unlock();
         }
+    }
 
-        game.hitShip(currentPlayer, targetX, targetY);
-        
-        // Print remaining ships count
-        printShipsRemaining();
+    /**
+     * Returns a consistent view of a game without taking its session lock, so
+     * spectators never wait for a turn or hold one up; see {@link Game#spectate()}.
+     */
+    public GameView spectate(String gameId) {
+        return session(gameId).getGame().spectate();
     }
 
-    private void printShipsRemaining() {
-        Player playerA = game.getBoard().getPlayers().get(0);
-        Player playerB = game.getBoard().getPlayers().get(1);
-        System.out.println("Ships Remaining - " + playerA.getName() + ":" + 
-                          playerA.getAliveShipCount() + ", " + playerB.getName() + ":" + 
-                          playerB.getAliveShipCount());
+    /**
+     * Returns a snapshot of a game taken between turns, ready to be written or
+     * decoded; see {@link GameSnapshots#snapshot(Game)}.
+     */
+    public ByteBuffer snapshot(String gameId) {
+        GameSession session = session(gameId);
+        session.lock();
+        try {
+            return GameSnapshots.snapshot(session.getGame());
+        } finally {
+            session.unlock();
+        }
     }
 
-    public void viewBattleField() {
-        validateGameExists();
-        game.viewBattleField();
+    /**
+     * Copies the game's battlefield updates after {@code sinceVersion} into
+     * {@code out} without taking the session lock; see
+     * {@link DeltaLog#readSince(long, ByteBuffer)}.
+     */
+    public long readDeltas(String gameId, long sinceVersion, ByteBuffer out) {
+        return session(gameId).getDeltaLog().readSince(sinceVersion, out);
+    }
+
+    /**
+     * Returns the version of the game's latest battlefield update. Read it before
+     * taking a full view to know where to resume the delta stream.
+     */
+    public long getDeltaVersion(String gameId) {
+        return session(gameId).getDeltaLog().getVersion();
+    }
+
+    private void viewBattleField(GameSession session) {
+        session.lock();
+        try {
+            session.getGame().viewBattleField();
+        } finally {
+            session.unlock();
+        }
     }
 
     public boolean hitShip(Player player, int x, int y) {
-        validateGameExists();
-        return game.hitShip(player, x, y);
+        return hitShip(currentSession(), player, x, y);
+    }
+
+    public boolean hitShip(String gameId, Player player, int x, int y) {
+        return hitShip(session(gameId), player, x, y);
+    }
+
+    /**
+     * Fires at a square on behalf of whichever player's turn it is.
+     */
+    public ShotResult fireShot(String gameId, int x, int y) {
+        GameSession session = session(gameId);
+        session.lock();
+        try {
+            Game game = session.getGame();
+            long start = System.nanoTime();
+            ShotResult result = game.fireShot(game.getCurrentPlayer(), x, y);
+            metrics.recordHitShip(System.nanoTime() - start);
+            return result;
+        } finally {
+            session.unlock();
+        }
+    }
+
+    private boolean hitShip(GameSession session, Player player, int x, int y) {
+        session.lock();
+        try {
+            long start = System.nanoTime();
+            boolean accepted = session.getGame().hitShip(player, x, y);
+            metrics.recordHitShip(System.nanoTime() - start);
+            return accepted;
+        } finally {
+            session.unlock();
+        }
     }
 
     public void playFullGame() {
-        validateGameExists();
-        
-        if (game.getState() != GameState.INITIALIZED) {
-            throw new IllegalStateException("Game must be in initialized state to play full game");
+        playFullGame(currentSession());
+    }
+
+    public void playFullGame(String gameId) {
+        playFullGame(session(gameId));
+    }
+
+    private void playFullGame(GameSession session) {
+        // Hold the lock per turn rather than for the whole game so readers of this
+        // game are not starved while it plays out
+        session.lock();
+        try {
+            if (session.getGame().getState() != GameState.INITIALIZED) {
+                throw new IllegalStateException("Game must be in initialized state to play full game");
+            }
+            session.getGame().startGame();
+        } finally {
+            session.unlock();
+        }
+
+        while (!session.getGame().isGameFinished()) {
+            playTurn(session);
+        }
+    }
+
+    /**
+     * Returns the counters and latency histograms of every game this service has
+     * created; see {@link GameMetrics#register(String)} to expose them over JMX.
+     */
+    public GameMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Sets the listener that games created from now on report to. Defaults to a
+     * {@link ConsoleEventListener}; pass {@link GameEventListener#NO_OP} to turn
+     * output off.
+     */
+    public void setEventListener(GameEventListener eventListener) {
+        this.eventListener = eventListener;
+    }
+
+    /**
+     * Sets how many records the delta log of each game created from now on keeps
+     * for viewers. Defaults to {@link DeltaLog#capacityFor(int)}, enough for a
+     * whole game; pass 0 to restore it. Logs start small and grow with the game,
+     * so a large capacity costs nothing until the records are written.
+     */
+    public void setDeltaLogCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative");
         }
+        if (capacity > DeltaLog.MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must not exceed " + DeltaLog.MAX_CAPACITY);
+        }
+        this.deltaLogCapacity = capacity;
+    }
+
+    /**
+     * Removes a game from the registry.
+     *
+     * @return {@code true} if the game was registered
+     */
+    public boolean removeGame(String gameId) {
+        GameSession session = sessions.remove(gameId);
+        if (session != null && session == currentSession) {
+            currentSession = null;
+        }
+        return session != null;
+    }
 
-        startGame();
-        
-        while (!game.isGameFinished()) {
-            playTurn();
+    /**
+     * Removes every game that has finished.
+     *
+     * @return the number of games removed
+     */
+    public int evictFinishedGames() {
+        int evicted = 0;
+        for (Map.Entry<String, GameSession> entry : sessions.entrySet()) {
+            if (entry.getValue().getGame().isGameFinished() && removeGame(entry.getKey())) {
+                evicted++;
+            }
         }
+        return evicted;
     }
 
-    private void validateGameExists() {
-        if (game == null) {
+    /**
+     * Removes every game that has not been touched for longer than {@code maxIdle}.
+     *
+     * @return the number of games removed
+     */
+    public int evictIdleGames(Duration maxIdle) {
+        long cutoff = System.nanoTime() - maxIdle.toNanos();
+        int evicted = 0;
+        for (Map.Entry<String, GameSession> entry : sessions.entrySet()) {
+            if (entry.getValue().isIdleSince(cutoff) && removeGame(entry.getKey())) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    public int getGameCount() {
+        return sessions.size();
+    }
+
+    private GameSession session(String gameId) {
+        GameSession session = sessions.get(gameId);
+        if (session == null) {
+            throw new IllegalArgumentException("Unknown game: " + gameId);
+        }
+        return session;
+    }
+
+    private GameSession currentSession() {
+        GameSession session = currentSession;
+        if (session == null) {
             throw new IllegalStateException("Game not initialized. Call initGame() first.");
         }
+        return session;
     }
 
     public Game getGame() {
-        return game;
+        GameSession session = currentSession;
+        return session == null ? null : session.getGame();
+    }
+
+    public Game getGame(String gameId) {
+        return session(gameId).getGame();
     }
 
     public boolean isGameFinished() {
+        Game game = getGame();
         return game != null && game.isGameFinished();
     }
-} 
\ No newline at end of file
+
+    public boolean isGameFinished(String gameId) {
+        return session(gameId).getGame().isGameFinished();
+    }
+}
@@ -0,0 +1,60 @@
+package org.codekart.service;
+
+import org.codekart.events.DeltaLog;
+import org.codekart.metrics.StrategyMetrics;
+import org.codekart.models.Game;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A registered game together with the firing strategy that drives it and the
+ * lock that serializes every operation on it. Operations on different sessions
+ * never contend with each other.
+ */
+final class GameSession {
+    private final Game game;
+    private final FiringStrategy firingStrategy;
+    private final StrategyMetrics strategyMetrics;
+    private final DeltaLog deltaLog;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile long lastAccessNanos;
+
+    GameSession(Game game, FiringStrategy firingStrategy, StrategyMetrics strategyMetrics, DeltaLog deltaLog) {
+        this.game = game;
+        this.firingStrategy = firingStrategy;
+        this.strategyMetrics = strategyMetrics;
+        this.deltaLog = deltaLog;
+        this.lastAccessNanos = System.nanoTime();
+    }
+
+    Game getGame() {
+        return game;
+    }
+
+    FiringStrategy getFiringStrategy() {
+        return firingStrategy;
+    }
+
+    StrategyMetrics getStrategyMetrics() {
+        return strategyMetrics;
+    }
+
+    DeltaLog getDeltaLog() {
+        return deltaLog;
+    }
+
+    /**
+     * Acquires the session lock and records the access for idle eviction.
+     */
+    void lock() {
+        lock.lock();
+        lastAccessNanos = System.nanoTime();
+    }
+
+    void unlock() {
+        lock.unlock();
+    }
+
+    boolean isIdleSince(long cutoffNanos) {
+        return lastAccessNanos - cutoffNanos < 0;
+    }
+}
@@ -1,42 +1,57 @@
 package org.codekart.service;
 
+import org.codekart.models.TerritoryLayout;
+import org.codekart.util.PackedCoordinates;
 import org.codekart.util.Pair;
 import java.util.*;
 
 public class RandomFiringStrategy implements FiringStrategy {
     
-    private final Map<String, Set<Pair<Integer, Integer>>> hitCoordinates = new HashMap<>();
+    private final Map<String, ShotTracker> hitCoordinates = new HashMap<>();
     private final Random random = new Random();
 
     @Override
     public Pair<Integer, Integer> getStrikeCoordinates(String playerId, int boardSize) {
-        Set<Pair<Integer, Integer>> playerHits = hitCoordinates.computeIfAbsent(playerId, k -> new HashSet<>());
-        
-        // Determine opponent's territory bounds
-        int startX, endX;
-        if ("A".equals(playerId)) {
-            // Player A attacks Player B's territory (right half)
-            startX = boardSize / 2;
-            endX = boardSize;
-        } else {
-            // Player B attacks Player A's territory (left half)
-            startX = 0;
-            endX = boardSize / 2;
-        }
-        
-        Pair<Integer, Integer> coordinates;
+        long coordinates = getPackedStrikeCoordinates(playerId, boardSize);
+        return new Pair<>(PackedCoordinates.x(coordinates), PackedCoordinates.y(coordinates));
+    }
+
+    @Override
+    public long getPackedStrikeCoordinates(String playerId, int boardSize) {
+        // Player A attacks Player B's territory (right half), Player B the left half
+        boolean playerA = "A".equals(playerId);
+        return strike(playerId, boardSize, playerA ? 0 : boardSize / 2, playerA ? boardSize / 2 : boardSize);
+    }
+
+    @Override
+    public long getPackedStrikeCoordinates(String playerId, TerritoryLayout layout, int playerIndex) {
+        return strike(playerId, layout.getBoardSize(), layout.getStartRow(playerIndex), layout.getEndRow(playerIndex));
+    }
+
+    // Fires at random anywhere outside the player's own rows [ownStartX, ownEndX)
+    private long strike(String playerId, int boardSize, int ownStartX, int ownEndX) {
+        ShotTracker playerHits = hitCoordinates.computeIfAbsent(playerId, k -> new ShotTracker())
+                .forBoard(boardSize);
+        int ownRows = ownEndX - ownStartX;
+
+        int x, y;
         do {
-            int x = random.nextInt(endX - startX) + startX;
-            int y = random.nextInt(boardSize);
-            coordinates = new Pair<>(x, y);
-        } while (playerHits.contains(coordinates));
+            int row = random.nextInt(boardSize - ownRows);
+            x = row < ownStartX ? row : row + ownRows;
+            y = random.nextInt(boardSize);
+        } while (playerHits.isFired(x, y));
         
-        playerHits.add(coordinates);
-        return coordinates;
+        playerHits.markFired(x, y);
+        return PackedCoordinates.pack(x, y);
+    }
+
+    @Override
+    public void reset() {
+        hitCoordinates.values().forEach(ShotTracker::reset);
     }
 
     @Override
     public String getStrategyName() {
         return "Random Firing Strategy";
     }
-} 
\ No newline at end of file
+}
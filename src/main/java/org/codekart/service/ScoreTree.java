@@ -0,0 +1,123 @@
+package org.codekart.service;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Segment tree over a fixed row of {@code long} scores. Adding to a range of
+ * positions and picking a position holding the maximum, uniformly at random
+ * among ties, both take {@code O(log n)}.
+ *
+ * <p>Every node keeps the maximum of its subtree including the adds still
+ * pending on it, and how many positions hold that maximum. Pending adds are
+ * never pushed down: both children of a node owe it the same amount, so they
+ * can be compared as they are.
+ */
+final class ScoreTree {
+    // Score of the padding positions past the end, below anything a caller adds up to
+    private static final long EMPTY = Long.MIN_VALUE / 2;
+    // Largest position count whose tree still fits in one array
+    static final long MAX_SIZE = 1L << 29;
+
+    private final int size;
+    private final int leaves;
+    // Node 1 is the root, node i has children 2i and 2i+1, leaves start at index leaves
+    private final long[] max;
+    private final int[] count;
+    private final long[] pending;
+
+    ScoreTree(int size) {
+        if (size > MAX_SIZE) {
+            throw new IllegalArgumentException("Score tree of " + size + " positions is too large");
+        }
+        this.size = size;
+        this.leaves = Integer.highestOneBit(Math.max(1, size - 1)) << 1;
+        this.max = new long[2 * leaves];
+        this.count = new int[leaves];
+        this.pending = new long[leaves];
+    }
+
+    /**
+     * Sets the score of one position without updating the tree; call
+     * {@link #build()} once every position is set.
+     */
+    void set(int position, long score) {
+        max[leaves + position] = score;
+    }
+
+    /**
+     * Recomputes every node from the scores given to {@link #set}.
+     */
+    void build() {
+        Arrays.fill(max, leaves + size, 2 * leaves, EMPTY);
+        Arrays.fill(pending, 0L);
+        for (int node = leaves - 1; node >= 1; node--) {
+            pull(node);
+        }
+    }
+
+    /**
+     * Adds {@code delta} to the scores of positions {@code [from, to)}.
+     */
+    void add(int from, int to, long delta) {
+        if (from < to && delta != 0) {
+            add(1, 0, leaves, from, to, delta);
+        }
+    }
+
+    /**
+     * Returns the highest score of any position.
+     */
+    long max() {
+        return max[1];
+    }
+
+    /**
+     * Returns a position holding {@link #max()}, each with equal probability.
+     */
+    int pick(SplittableRandom random) {
+        int node = 1;
+        while (node < leaves) {
+            int left = 2 * node;
+            int right = left + 1;
+            if (max[left] > max[right]) {
+                node = left;
+            } else if (max[left] < max[right]) {
+                node = right;
+            } else {
+                int leftCount = count(left);
+                node = random.nextInt(leftCount + count(right)) < leftCount ? left : right;
+            }
+        }
+        return node - leaves;
+    }
+
+    private void add(int node, int lo, int hi, int from, int to, long delta) {
+        if (to <= lo || hi <= from) {
+            return;
+        }
+        if (from <= lo && hi <= to) {
+            max[node] += delta;
+            if (node < leaves) {
+                pending[node] += delta;
+            }
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        add(2 * node, lo, mid, from, to, delta);
+        add(2 * node + 1, mid, hi, from, to, delta);
+        pull(node);
+    }
+
+    private void pull(int node) {
+        int left = 2 * node;
+        int right = left + 1;
+        long best = Math.max(max[left], max[right]);
+        count[node] = (max[left] == best ? count(left) : 0) + (max[right] == best ? count(right) : 0);
+        max[node] = best + pending[node];
+    }
+
+    private int count(int node) {
+        return node < leaves ? count[node] : 1;
+    }
+}
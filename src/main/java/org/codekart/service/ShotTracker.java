@@ -0,0 +1,71 @@
+package org.codekart.service;
+
+import org.codekart.util.Bits;
+import org.codekart.util.SparseBitGrid;
+import java.util.Arrays;
+
+/**
+ * Per-player record of fired coordinates, kept as a bitset indexed by
+ * {@code x * boardSize + y}. Boards whose area is beyond
+ * {@value #MAX_DENSE_SQUARES} squares, such as large sparse boards, switch to a
+ * {@link SparseBitGrid} that grows with the number of shots instead. Marking
+ * and checking a shot never allocates on a dense tracker.
+ */
+final class ShotTracker {
+    // 8 MB of bits; larger boards are tracked sparsely
+    static final long MAX_DENSE_SQUARES = 1L << 26;
+
+    private long[] fired = new long[0];
+    private SparseBitGrid sparseFired;
+    private int boardSize;
+    private long position;
+
+    /**
+     * Prepares the tracker for the given board, clearing it if the size changed.
+     */
+    ShotTracker forBoard(int boardSize) {
+        if (this.boardSize != boardSize) {
+            if ((long) boardSize * boardSize > MAX_DENSE_SQUARES) {
+                this.fired = new long[0];
+                this.sparseFired = new SparseBitGrid();
+            } else {
+                this.fired = Bits.words(boardSize * boardSize);
+                this.sparseFired = null;
+            }
+            this.boardSize = boardSize;
+            this.position = 0;
+        }
+        return this;
+    }
+
+    /**
+     * Clears all recorded shots, keeping the bitset for reuse.
+     */
+    void reset() {
+        Arrays.fill(fired, 0L);
+        if (sparseFired != null) {
+            sparseFired.clear();
+        }
+        position = 0;
+    }
+
+    boolean isFired(int x, int y) {
+        return sparseFired != null ? sparseFired.get(x, y) : Bits.get(fired, x * boardSize + y);
+    }
+
+    void markFired(int x, int y) {
+        if (sparseFired != null) {
+            sparseFired.set(x, y);
+        } else {
+            Bits.set(fired, x * boardSize + y);
+        }
+    }
+
+    long getPosition() {
+        return position;
+    }
+
+    void setPosition(long position) {
+        this.position = position;
+    }
+}
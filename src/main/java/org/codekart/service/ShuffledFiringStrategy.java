@@ -0,0 +1,74 @@
+package org.codekart.service;
+
+import org.codekart.models.TerritoryLayout;
+import org.codekart.util.PackedCoordinates;
+import org.codekart.util.Pair;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Random firing without rejection sampling. Every player draws targets from a
+ * shuffled deck of the opponent's territory, so each shot costs O(1) even when
+ * almost every square has already been fired at. Seeding the
+ * {@link SplittableRandom} makes a sequence of shots reproducible.
+ */
+public class ShuffledFiringStrategy implements FiringStrategy {
+
+    private final Map<String, TargetDeck> targetDecks = new HashMap<>();
+    private final SplittableRandom random;
+
+    public ShuffledFiringStrategy() {
+        this(new SplittableRandom());
+    }
+
+    public ShuffledFiringStrategy(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    public ShuffledFiringStrategy(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public Pair<Integer, Integer> getStrikeCoordinates(String playerId, int boardSize) {
+        long coordinates = getPackedStrikeCoordinates(playerId, boardSize);
+        return new Pair<>(PackedCoordinates.x(coordinates), PackedCoordinates.y(coordinates));
+    }
+
+    @Override
+    public long getPackedStrikeCoordinates(String playerId, int boardSize) {
+        // Player A attacks Player B's territory (right half), Player B the left half
+        boolean playerA = "A".equals(playerId);
+        return strike(playerId, boardSize, playerA ? 0 : boardSize / 2, playerA ? boardSize / 2 : boardSize);
+    }
+
+    @Override
+    public long getPackedStrikeCoordinates(String playerId, TerritoryLayout layout, int playerIndex) {
+        return strike(playerId, layout.getBoardSize(), layout.getStartRow(playerIndex), layout.getEndRow(playerIndex));
+    }
+
+    // Draws from a deck over every row outside the player's own rows [ownStartX, ownEndX)
+    private long strike(String playerId, int boardSize, int ownStartX, int ownEndX) {
+        int ownRows = ownEndX - ownStartX;
+        TargetDeck deck = targetDecks.computeIfAbsent(playerId, k -> new TargetDeck())
+                .forBoard(boardSize, (long) (boardSize - ownRows) * boardSize);
+        if (deck.remaining() == 0) {
+            throw new IllegalStateException("No untargeted coordinates left for player " + playerId);
+        }
+
+        int offset = deck.draw(random);
+        int row = offset / boardSize;
+        return PackedCoordinates.pack(row < ownStartX ? row : row + ownRows, offset % boardSize);
+    }
+
+    @Override
+    public void reset() {
+        targetDecks.values().forEach(TargetDeck::reset);
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "Shuffled Random Firing Strategy";
+    }
+}
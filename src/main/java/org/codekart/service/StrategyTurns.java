@@ -0,0 +1,55 @@
+package org.codekart.service;
+
+import org.codekart.models.Board;
+import org.codekart.models.Game;
+import org.codekart.models.Player;
+import org.codekart.models.ShotResult;
+import org.codekart.util.PackedCoordinates;
+
+/**
+ * The steps of a turn played by a {@link FiringStrategy}: pick a target for the
+ * current player, fire at it and report the result back to the strategy.
+ * {@link GameService} times each step separately; simulations just call
+ * {@link #play}.
+ */
+public final class StrategyTurns {
+
+    private StrategyTurns() {
+    }
+
+    /**
+     * Plays the current player's turn with {@code strategy}.
+     */
+    public static ShotResult play(Game game, FiringStrategy strategy) {
+        Player current = game.getCurrentPlayer();
+        long target = target(game, strategy);
+        int x = PackedCoordinates.x(target);
+        int y = PackedCoordinates.y(target);
+        ShotResult result = game.fireShot(current, x, y);
+        report(game, strategy, current, x, y, result);
+        return result;
+    }
+
+    /**
+     * Asks the strategy for a square in an opponent's territory for the current
+     * player, packed with {@link PackedCoordinates}.
+     */
+    public static long target(Game game, FiringStrategy strategy) {
+        Player current = game.getCurrentPlayer();
+        Board board = game.getBoard();
+        return board.getPlayers().size() == 2
+                ? strategy.getPackedStrikeCoordinates(current.getId(), board.getSize())
+                : strategy.getPackedStrikeCoordinates(current.getId(), board.getTerritoryLayout(),
+                board.indexOf(current));
+    }
+
+    /**
+     * Tells the strategy how its shot went. Rejected shots are not reported.
+     */
+    public static void report(Game game, FiringStrategy strategy, Player shooter, int x, int y, ShotResult result) {
+        if (result != ShotResult.REJECTED) {
+            int sunkShipSize = result == ShotResult.SUNK ? game.getBoard().getShipAt(x, y).getSize() : 0;
+            strategy.onShotResult(shooter.getId(), x, y, result, sunkShipSize);
+        }
+    }
+}
@@ -1,55 +1,71 @@
 package org.codekart.service;
 
+import org.codekart.models.TerritoryLayout;
+import org.codekart.util.PackedCoordinates;
 import org.codekart.util.Pair;
 import java.util.*;
 
 public class SystematicFiringStrategy implements FiringStrategy {
     
-    private final Map<String, Integer> playerPositions = new HashMap<>();
-    private final Map<String, Set<Pair<Integer, Integer>>> hitCoordinates = new HashMap<>();
+    private final Map<String, ShotTracker> hitCoordinates = new HashMap<>();
 
     @Override
     public Pair<Integer, Integer> getStrikeCoordinates(String playerId, int boardSize) {
-        Set<Pair<Integer, Integer>> playerHits = hitCoordinates.computeIfAbsent(playerId, k -> new HashSet<>());
-        int currentPosition = playerPositions.getOrDefault(playerId, 0);
-        
-        // Determine opponent's territory bounds
-        int startX, endX;
-        if ("A".equals(playerId)) {
-            // Player A attacks Player B's territory (right half)
-            startX = boardSize / 2;
-            endX = boardSize;
-        } else {
-            // Player B attacks Player A's territory (left half)
-            startX = 0;
-            endX = boardSize / 2;
-        }
-        
-        // Calculate coordinates systematically
-        int territoryWidth = endX - startX;
-        int x = startX + (currentPosition % territoryWidth);
-        int y = currentPosition / territoryWidth;
-        
-        Pair<Integer, Integer> coordinates = new Pair<>(x, y);
+        long coordinates = getPackedStrikeCoordinates(playerId, boardSize);
+        return new Pair<>(PackedCoordinates.x(coordinates), PackedCoordinates.y(coordinates));
+    }
+
+    @Override
+    public long getPackedStrikeCoordinates(String playerId, int boardSize) {
+        // Player A attacks Player B's territory (right half), Player B the left half
+        boolean playerA = "A".equals(playerId);
+        return strike(playerId, boardSize, playerA ? 0 : boardSize / 2, playerA ? boardSize / 2 : boardSize);
+    }
+
+    @Override
+    public long getPackedStrikeCoordinates(String playerId, TerritoryLayout layout, int playerIndex) {
+        return strike(playerId, layout.getBoardSize(), layout.getStartRow(playerIndex), layout.getEndRow(playerIndex));
+    }
+
+    // Sweeps every row outside the player's own rows [ownStartX, ownEndX), column by column
+    private long strike(String playerId, int boardSize, int ownStartX, int ownEndX) {
+        ShotTracker playerHits = hitCoordinates.computeIfAbsent(playerId, k -> new ShotTracker())
+                .forBoard(boardSize);
+        long currentPosition = playerHits.getPosition();
+        int ownRows = ownEndX - ownStartX;
+
+        // Calculate coordinates systematically; long math, as huge sparse boards exceed int area
+        int territoryWidth = boardSize - ownRows;
+        long territoryArea = (long) territoryWidth * boardSize;
+        int x = targetRow((int) (currentPosition % territoryWidth), ownStartX, ownRows);
+        int y = (int) (currentPosition / territoryWidth);
         
         // Skip if already hit
-        while (playerHits.contains(coordinates) && currentPosition < territoryWidth * boardSize) {
+        while (currentPosition < territoryArea && playerHits.isFired(x, y)) {
             currentPosition++;
-            x = startX + (currentPosition % territoryWidth);
-            y = currentPosition / territoryWidth;
-            coordinates = new Pair<>(x, y);
+            x = targetRow((int) (currentPosition % territoryWidth), ownStartX, ownRows);
+            y = (int) (currentPosition / territoryWidth);
         }
         
-        if (!playerHits.contains(coordinates)) {
-            playerHits.add(coordinates);
-            playerPositions.put(playerId, currentPosition + 1);
+        if (currentPosition < territoryArea) {
+            playerHits.markFired(x, y);
+            playerHits.setPosition(currentPosition + 1);
         }
         
-        return coordinates;
+        return PackedCoordinates.pack(x, y);
+    }
+
+    private static int targetRow(int row, int ownStartX, int ownRows) {
+        return row < ownStartX ? row : row + ownRows;
+    }
+
+    @Override
+    public void reset() {
+        hitCoordinates.values().forEach(ShotTracker::reset);
     }
 
     @Override
     public String getStrategyName() {
         return "Systematic Firing Strategy";
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,62 @@
+package org.codekart.service;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Shrinking Fisher-Yates deck over the cells of a territory. Each draw returns a
+ * not yet drawn cell offset in constant time, however few cells are left.
+ */
+final class TargetDeck {
+    // A slot holding 0 still contains its own index, otherwise it holds value + 1.
+    // That lets a freshly allocated (zeroed) array act as the identity permutation.
+    private int[] slots = new int[0];
+    private int remaining;
+    private int boardSize;
+
+    // Largest deck an int[] can hold
+    static final long MAX_CELLS = Integer.MAX_VALUE - 8;
+
+    /**
+     * Prepares the deck for the given board, refilling it if the size changed.
+     *
+     * @throws IllegalArgumentException if the territory has more than {@link #MAX_CELLS} cells
+     */
+    TargetDeck forBoard(int boardSize, long cellCount) {
+        if (cellCount > MAX_CELLS) {
+            throw new IllegalArgumentException("Territory of " + cellCount
+                    + " squares is too large to shuffle; use a random or systematic strategy");
+        }
+        if (this.boardSize != boardSize || slots.length != cellCount) {
+            this.slots = new int[(int) cellCount];
+            this.remaining = (int) cellCount;
+            this.boardSize = boardSize;
+        }
+        return this;
+    }
+
+    /**
+     * Puts every cell back into the deck, keeping the array for reuse.
+     */
+    void reset() {
+        Arrays.fill(slots, 0);
+        remaining = slots.length;
+    }
+
+    int remaining() {
+        return remaining;
+    }
+
+    int draw(SplittableRandom random) {
+        int pick = random.nextInt(remaining);
+        int last = --remaining;
+        int value = valueAt(pick);
+        slots[pick] = valueAt(last) + 1;
+        return value;
+    }
+
+    private int valueAt(int slot) {
+        int value = slots[slot];
+        return value == 0 ? slot : value - 1;
+    }
+}
@@ -0,0 +1,35 @@
+package org.codekart.simulation;
+
+import lombok.Getter;
+
+/**
+ * Outcome of all games between two tournament entrants.
+ */
+@Getter
+public class PairingResult {
+    private final String firstStrategy;
+    private final String secondStrategy;
+    private final long games;
+    private final long winsFirst;
+    private final long winsSecond;
+    private final long totalTurns;
+
+    PairingResult(String firstStrategy, String secondStrategy, long winsFirst, long winsSecond, long totalTurns) {
+        this.firstStrategy = firstStrategy;
+        this.secondStrategy = secondStrategy;
+        this.games = winsFirst + winsSecond;
+        this.winsFirst = winsFirst;
+        this.winsSecond = winsSecond;
+        this.totalTurns = totalTurns;
+    }
+
+    public double getMeanTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s vs %s: %d-%d, mean %.1f turns",
+                firstStrategy, secondStrategy, winsFirst, winsSecond, getMeanTurns());
+    }
+}
@@ -0,0 +1,26 @@
+package org.codekart.simulation;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.codekart.models.BoardType;
+import org.codekart.models.Fleet;
+import org.codekart.service.FiringStrategy;
+import java.util.function.Supplier;
+
+/**
+ * Parameters of a batch simulation. Every worker calls the strategy factories
+ * once, so stateful strategies are never shared between threads.
+ */
+@Getter
+@Builder
+public class SimulationConfig {
+    private final int boardSize;
+    @Builder.Default
+    private final BoardType boardType = BoardType.BITSET;
+    private final Fleet fleet;
+    private final Supplier<FiringStrategy> strategyA;
+    private final Supplier<FiringStrategy> strategyB;
+    private final int games;
+    @Builder.Default
+    private final int parallelism = Runtime.getRuntime().availableProcessors();
+}
@@ -0,0 +1,69 @@
+package org.codekart.simulation;
+
+import lombok.Getter;
+
+/**
+ * Aggregate outcome of a batch simulation. Turn counts are kept as a histogram
+ * indexed by turn count, up to the longest game played, so percentiles are
+ * exact and merging is cheap.
+ */
+@Getter
+public class SimulationResult {
+    private final long games;
+    private final long winsA;
+    private final long winsB;
+    private final long totalTurns;
+    private final long elapsedNanos;
+    private final long[] turnHistogram;
+
+    SimulationResult(long winsA, long winsB, long totalTurns, long[] turnHistogram, long elapsedNanos) {
+        this.games = winsA + winsB;
+        this.winsA = winsA;
+        this.winsB = winsB;
+        this.totalTurns = totalTurns;
+        this.turnHistogram = turnHistogram;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public double getWinRateA() {
+        return games == 0 ? 0 : (double) winsA / games;
+    }
+
+    public double getWinRateB() {
+        return games == 0 ? 0 : (double) winsB / games;
+    }
+
+    public double getMeanTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    /**
+     * Returns the smallest turn count that at least {@code percentile} percent of
+     * the games finished within.
+     */
+    public int getTurnPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * games));
+        long seen = 0;
+        for (int turns = 0; turns < turnHistogram.length; turns++) {
+            seen += turnHistogram[turns];
+            if (seen >= rank) {
+                return turns;
+            }
+        }
+        return 0;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("games=%d winRateA=%.4f winRateB=%.4f meanTurns=%.2f p50=%d p90=%d p99=%d gamesPerSecond=%.1f",
+                games, getWinRateA(), getWinRateB(), getMeanTurns(),
+                getTurnPercentile(50), getTurnPercentile(90), getTurnPercentile(99), getGamesPerSecond());
+    }
+}
@@ -0,0 +1,128 @@
+package org.codekart.simulation;
+
+import org.codekart.models.Game;
+import org.codekart.service.FiringStrategy;
+import org.codekart.service.StrategyTurns;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Plays many headless games in parallel and aggregates the outcome.
+ *
+ * <p>Games are split into one contiguous slice per worker. A worker owns its
+ * strategies and games outright and keeps its statistics in local primitives,
+ * so workers share nothing until the final merge.
+ */
+public class SimulationRunner {
+
+    public SimulationResult run(SimulationConfig config) {
+        if (config.getGames() < 0) {
+            throw new IllegalArgumentException("Number of games must not be negative");
+        }
+        if (config.getParallelism() <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+
+        int workers = Math.max(1, Math.min(config.getParallelism(), config.getGames()));
+        ForkJoinPool pool = new ForkJoinPool(workers);
+        long start = System.nanoTime();
+        try {
+            List<ForkJoinTask<WorkerStats>> tasks = new ArrayList<>(workers);
+            for (int w = 0; w < workers; w++) {
+                int from = (int) ((long) config.getGames() * w / workers);
+                int to = (int) ((long) config.getGames() * (w + 1) / workers);
+                tasks.add(pool.submit(() -> playSlice(config, from, to)));
+            }
+
+            WorkerStats total = new WorkerStats();
+            for (ForkJoinTask<WorkerStats> task : tasks) {
+                total.merge(task.join());
+            }
+            return new SimulationResult(total.winsA, total.winsB, total.totalTurns,
+                    Arrays.copyOf(total.turnHistogram, total.maxTurns + 1), System.nanoTime() - start);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private WorkerStats playSlice(SimulationConfig config, int from, int to) {
+        FiringStrategy strategyA = config.getStrategyA().get();
+        FiringStrategy strategyB = config.getStrategyB().get();
+        WorkerStats stats = new WorkerStats();
+        // One game per worker, reset in place between games instead of rebuilding the board
+        Game game = new Game("sim-" + from, config.getBoardType().create(config.getBoardSize()));
+
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                game.reset("sim-" + i);
+            }
+            config.getFleet().addTo(game);
+            strategyA.reset();
+            strategyB.reset();
+
+            playGame(game, strategyA, strategyB);
+            stats.record(game);
+        }
+        return stats;
+    }
+
+    static void playGame(Game game, FiringStrategy strategyA, FiringStrategy strategyB) {
+        game.startGame();
+        while (!game.isGameFinished()) {
+            playTurn(game, strategyA, strategyB);
+        }
+    }
+
+    /**
+     * Plays the current player's turn with its strategy; see
+     * {@link StrategyTurns#play}.
+     */
+    static void playTurn(Game game, FiringStrategy strategyA, FiringStrategy strategyB) {
+        boolean playerA = game.getCurrentPlayer() == game.getBoard().getPlayers().get(0);
+        StrategyTurns.play(game, playerA ? strategyA : strategyB);
+    }
+
+    // Turn histogram grows to the longest game seen rather than the board area,
+    // which games rarely come close to on large boards
+    private static final class WorkerStats {
+        private static final int INITIAL_HISTOGRAM_LENGTH = 256;
+
+        private long winsA;
+        private long winsB;
+        private long totalTurns;
+        private int maxTurns;
+        private long[] turnHistogram = new long[INITIAL_HISTOGRAM_LENGTH];
+
+        void record(Game game) {
+            if (game.getWinner() == game.getBoard().getPlayers().get(0)) {
+                winsA++;
+            } else {
+                winsB++;
+            }
+            int turns = game.getTurnCount();
+            totalTurns += turns;
+            ensureCapacity(turns);
+            turnHistogram[turns]++;
+        }
+
+        void merge(WorkerStats other) {
+            winsA += other.winsA;
+            winsB += other.winsB;
+            totalTurns += other.totalTurns;
+            ensureCapacity(other.maxTurns);
+            for (int i = 0; i <= other.maxTurns; i++) {
+                turnHistogram[i] += other.turnHistogram[i];
+            }
+        }
+
+        private void ensureCapacity(int turns) {
+            if (turns >= turnHistogram.length) {
+                turnHistogram = Arrays.copyOf(turnHistogram, Math.max(turns + 1, turnHistogram.length * 2));
+            }
+            maxTurns = Math.max(maxTurns, turns);
+        }
+    }
+}
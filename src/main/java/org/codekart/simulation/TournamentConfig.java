@@ -0,0 +1,58 @@
+package org.codekart.simulation;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.codekart.models.BoardType;
+import org.codekart.models.Fleet;
+import org.codekart.service.FiringStrategy;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Parameters of a round-robin tournament. Every pair of entrants plays
+ * {@code gamesPerPairing} games, alternating who moves first; each game gets
+ * fresh strategy instances from the factories.
+ */
+@Getter
+@Builder
+public class TournamentConfig {
+    private final int boardSize;
+    @Builder.Default
+    private final BoardType boardType = BoardType.BITSET;
+    private final Fleet fleet;
+    // Entrants by name, in the order they appear in the results
+    private final Map<String, Supplier<FiringStrategy>> strategies;
+    private final int gamesPerPairing;
+    @Builder.Default
+    private final int parallelism = Runtime.getRuntime().availableProcessors();
+    // Games in progress at once; new games are only admitted as others finish
+    @Builder.Default
+    private final int maxActiveGames = 1024;
+    // Turns a worker plays on one game before moving it to the back of the queue
+    @Builder.Default
+    private final int turnsPerSlice = 16;
+    // A slice also ends once it has run this long, so slow strategies do not hog a worker
+    @Builder.Default
+    private final Duration sliceTimeBudget = Duration.ofMillis(1);
+
+    // Entrant methods written out by hand: Lombok's @Singular expansion of a map
+    // emits a redundant cast that keeps the tree from compiling -Xlint clean
+    public static class TournamentConfigBuilder {
+        private Map<String, Supplier<FiringStrategy>> strategies = Map.of();
+
+        public TournamentConfigBuilder strategy(String name, Supplier<FiringStrategy> factory) {
+            return strategies(Map.of(name, factory));
+        }
+
+        public TournamentConfigBuilder strategies(Map<String, ? extends Supplier<FiringStrategy>> entrants) {
+            // Copy rather than mutate, so configs already built keep their entrants
+            Map<String, Supplier<FiringStrategy>> merged = new LinkedHashMap<>(strategies);
+            merged.putAll(entrants);
+            strategies = Collections.unmodifiableMap(merged);
+            return this;
+        }
+    }
+}
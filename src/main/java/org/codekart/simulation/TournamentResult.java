@@ -0,0 +1,57 @@
+package org.codekart.simulation;
+
+import lombok.Getter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-pairing results of a tournament and the resulting standings.
+ */
+@Getter
+public class TournamentResult {
+    private final List<PairingResult> pairings;
+    private final long elapsedNanos;
+
+    TournamentResult(List<PairingResult> pairings, long elapsedNanos) {
+        this.pairings = List.copyOf(pairings);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getGames() {
+        long games = 0;
+        for (PairingResult pairing : pairings) {
+            games += pairing.getGames();
+        }
+        return games;
+    }
+
+    /**
+     * Returns total wins per entrant, in entry order.
+     */
+    public Map<String, Long> getStandings() {
+        Map<String, Long> standings = new LinkedHashMap<>();
+        for (PairingResult pairing : pairings) {
+            standings.merge(pairing.getFirstStrategy(), pairing.getWinsFirst(), Long::sum);
+            standings.merge(pairing.getSecondStrategy(), pairing.getWinsSecond(), Long::sum);
+        }
+        return standings;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : getGames() * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("Tournament: %d games in %.2fs (%.0f games/s)%n",
+                getGames(), elapsedNanos / 1e9, getGamesPerSecond()));
+        for (PairingResult pairing : pairings) {
+            out.append("  ").append(pairing).append(System.lineSeparator());
+        }
+        getStandings().forEach((name, wins) ->
+                out.append("  ").append(name).append(": ").append(wins).append(" wins").append(System.lineSeparator()));
+        return out.toString();
+    }
+}
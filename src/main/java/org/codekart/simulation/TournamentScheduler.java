@@ -0,0 +1,235 @@
+package org.codekart.simulation;
+
+import org.codekart.models.Game;
+import org.codekart.service.FiringStrategy;
+import org.codekart.service.GamePool;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs a round-robin tournament by multiplexing many in-progress games onto a
+ * fixed pool of workers.
+ *
+ * <p>Games wait in a bounded run queue. A worker takes the game at the head,
+ * plays a slice of up to {@code turnsPerSlice} turns (ending early once the slice
+ * exceeds its time budget) and puts the game back at the tail, so every active
+ * game advances in fair round-robin order and one hand-off covers a batch of
+ * turns. A new game is admitted only when another one finishes: at most
+ * {@code maxActiveGames} games exist at once, and slow strategies slow down
+ * admission instead of piling up work. Idle workers block on the queue; the
+ * worker that finishes the last game queues one stop marker per worker.
+ */
+public class TournamentScheduler {
+    // Queued once per worker when no games are left
+    private static final Match STOP = new Match(null, null, null, null, false);
+
+    public TournamentResult run(TournamentConfig config) {
+        validate(config);
+
+        List<Pairing> pairings = pairings(config);
+        int totalGames = pairings.size() * config.getGamesPerPairing();
+        int activeGames = Math.min(config.getMaxActiveGames(), totalGames);
+        int workers = Math.max(1, Math.min(config.getParallelism(), activeGames));
+        MatchSource source = new MatchSource(config, pairings);
+        BlockingQueue<Match> runQueue = new ArrayBlockingQueue<>(Math.max(1, activeGames));
+        AtomicInteger remaining = new AtomicInteger(totalGames);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < activeGames; i++) {
+            runQueue.add(source.next());
+        }
+        if (totalGames == 0) {
+            runQueue.add(STOP);
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        try {
+            CompletionService<Void> completion = new ExecutorCompletionService<>(pool);
+            for (int w = 0; w < workers; w++) {
+                completion.submit(() -> {
+                    work(config, source, runQueue, remaining, workers);
+                    return null;
+                });
+            }
+            // The first worker to fail ends the tournament; the others are interrupted below
+            for (int w = 0; w < workers; w++) {
+                completion.take().get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Tournament interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Tournament worker failed", cause);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        List<PairingResult> results = new ArrayList<>(pairings.size());
+        for (Pairing pairing : pairings) {
+            results.add(pairing.result());
+        }
+        return new TournamentResult(results, System.nanoTime() - start);
+    }
+
+    private void work(TournamentConfig config, MatchSource source, BlockingQueue<Match> runQueue,
+                      AtomicInteger remaining, int workers) throws InterruptedException {
+        long sliceBudgetNanos = config.getSliceTimeBudget().toNanos();
+        while (true) {
+            Match match = runQueue.take();
+            if (match == STOP) {
+                return;
+            }
+            if (!match.playSlice(config.getTurnsPerSlice(), sliceBudgetNanos)) {
+                runQueue.put(match);
+                continue;
+            }
+            match.record();
+            source.release(match);
+            Match next = source.next();
+            if (next != null) {
+                runQueue.put(next);
+            }
+            if (remaining.decrementAndGet() == 0) {
+                // Every game is recorded, so the queue is empty and has room for all the markers
+                for (int w = 0; w < workers; w++) {
+                    runQueue.put(STOP);
+                }
+            }
+        }
+    }
+
+    private static void validate(TournamentConfig config) {
+        if (config.getStrategies().size() < 2) {
+            throw new IllegalArgumentException("A tournament needs at least two strategies");
+        }
+        if (config.getGamesPerPairing() < 0) {
+            throw new IllegalArgumentException("Games per pairing must not be negative");
+        }
+        if (config.getParallelism() <= 0 || config.getMaxActiveGames() <= 0 || config.getTurnsPerSlice() <= 0) {
+            throw new IllegalArgumentException("Parallelism, active games and turns per slice must be positive");
+        }
+    }
+
+    private static List<Pairing> pairings(TournamentConfig config) {
+        List<Map.Entry<String, Supplier<FiringStrategy>>> entrants = new ArrayList<>(config.getStrategies().entrySet());
+        List<Pairing> pairings = new ArrayList<>();
+        for (int i = 0; i < entrants.size(); i++) {
+            for (int j = i + 1; j < entrants.size(); j++) {
+                pairings.add(new Pairing(entrants.get(i), entrants.get(j)));
+            }
+        }
+        return pairings;
+    }
+
+    // Hands out the scheduled games in order, taking each one from the pool when it is admitted
+    private static final class MatchSource {
+        private final TournamentConfig config;
+        private final List<Pairing> pairings;
+        private final AtomicInteger nextIndex = new AtomicInteger();
+        private final int totalGames;
+        private final GamePool games;
+
+        MatchSource(TournamentConfig config, List<Pairing> pairings) {
+            this.config = config;
+            this.pairings = pairings;
+            this.totalGames = pairings.size() * config.getGamesPerPairing();
+            this.games = new GamePool(config.getBoardType(), "tournament", config.getMaxActiveGames());
+        }
+
+        void release(Match match) {
+            games.release(match.game);
+        }
+
+        Match next() {
+            int index = nextIndex.getAndIncrement();
+            if (index >= totalGames) {
+                return null;
+            }
+            Pairing pairing = pairings.get(index / config.getGamesPerPairing());
+            // Alternate who moves first within a pairing
+            boolean swapped = index % config.getGamesPerPairing() % 2 == 1;
+            Game game = games.acquire(config.getBoardSize());
+            config.getFleet().addTo(game);
+            game.startGame();
+            FiringStrategy first = pairing.first.getValue().get();
+            FiringStrategy second = pairing.second.getValue().get();
+            return swapped ? new Match(game, second, first, pairing, true) : new Match(game, first, second, pairing, false);
+        }
+    }
+
+    private static final class Match {
+        private final Game game;
+        private final FiringStrategy strategyA;
+        private final FiringStrategy strategyB;
+        private final Pairing pairing;
+        private final boolean swapped;
+
+        Match(Game game, FiringStrategy strategyA, FiringStrategy strategyB, Pairing pairing, boolean swapped) {
+            this.game = game;
+            this.strategyA = strategyA;
+            this.strategyB = strategyB;
+            this.pairing = pairing;
+            this.swapped = swapped;
+        }
+
+        /**
+         * @return {@code true} once the game is over
+         */
+        boolean playSlice(int maxTurns, long budgetNanos) {
+            long start = System.nanoTime();
+            for (int turn = 0; turn < maxTurns && !game.isGameFinished(); turn++) {
+                SimulationRunner.playTurn(game, strategyA, strategyB);
+                if (System.nanoTime() - start > budgetNanos) {
+                    break;
+                }
+            }
+            return game.isGameFinished();
+        }
+
+        void record() {
+            boolean playerAWon = game.getWinner() == game.getBoard().getPlayers().get(0);
+            pairing.record(playerAWon != swapped, game.getTurnCount());
+        }
+    }
+
+    private static final class Pairing {
+        private final Map.Entry<String, Supplier<FiringStrategy>> first;
+        private final Map.Entry<String, Supplier<FiringStrategy>> second;
+        private final LongAdder winsFirst = new LongAdder();
+        private final LongAdder winsSecond = new LongAdder();
+        private final LongAdder totalTurns = new LongAdder();
+
+        Pairing(Map.Entry<String, Supplier<FiringStrategy>> first, Map.Entry<String, Supplier<FiringStrategy>> second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        void record(boolean firstWon, int turns) {
+            (firstWon ? winsFirst : winsSecond).increment();
+            totalTurns.add(turns);
+        }
+
+        PairingResult result() {
+            return new PairingResult(first.getKey(), second.getKey(), winsFirst.sum(), winsSecond.sum(),
+                    totalTurns.sum());
+        }
+    }
+}
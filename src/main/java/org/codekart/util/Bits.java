@@ -0,0 +1,96 @@
+package org.codekart.util;
+
+/**
+ * Static helpers for bitsets stored in plain {@code long[]} words.
+ */
+public final class Bits {
+
+    private Bits() {
+    }
+
+    public static long[] words(int bitCount) {
+        return new long[(bitCount + 63) >>> 6];
+    }
+
+    public static boolean get(long[] words, int index) {
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public static void set(long[] words, int index) {
+        words[index >>> 6] |= 1L << index;
+    }
+
+    public static void clear(long[] words, int index) {
+        words[index >>> 6] &= ~(1L << index);
+    }
+
+    /**
+     * Returns whether any bit in {@code [from, to)} is set, testing a whole word
+     * at a time.
+     */
+    public static boolean anySet(long[] words, int from, int to) {
+        if (from >= to) {
+            return false;
+        }
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (first == last) {
+            return (words[first] & firstMask & lastMask) != 0;
+        }
+        if ((words[first] & firstMask) != 0) {
+            return true;
+        }
+        for (int w = first + 1; w < last; w++) {
+            if (words[w] != 0) {
+                return true;
+            }
+        }
+        return (words[last] & lastMask) != 0;
+    }
+
+    /**
+     * Sets every bit in {@code [from, to)}.
+     */
+    public static void setRange(long[] words, int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (first == last) {
+            words[first] |= firstMask & lastMask;
+            return;
+        }
+        words[first] |= firstMask;
+        for (int w = first + 1; w < last; w++) {
+            words[w] = -1L;
+        }
+        words[last] |= lastMask;
+    }
+
+    /**
+     * ORs the first {@code length} bits of {@code source} into {@code target}
+     * starting at bit {@code targetFrom}, a word at a time.
+     */
+    public static void orInto(long[] source, int length, long[] target, int targetFrom) {
+        int shift = targetFrom & 63;
+        for (int w = 0, from = 0; from < length; w++, from += 64) {
+            long bits = source[w];
+            if (length - from < 64) {
+                bits &= -1L >>> (64 - (length - from));
+            }
+            if (bits == 0) {
+                continue;
+            }
+            int word = (targetFrom + from) >>> 6;
+            target[word] |= bits << shift;
+            if (shift != 0 && (bits >>> (64 - shift)) != 0) {
+                target[word + 1] |= bits >>> (64 - shift);
+            }
+        }
+    }
+}
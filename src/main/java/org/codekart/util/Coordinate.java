@@ -0,0 +1,52 @@
+package org.codekart.util;
+
+/**
+ * Immutable board coordinate with primitive fields, for APIs that want a value
+ * object instead of a {@link PackedCoordinates packed long}. Unlike
+ * {@link Pair Pair&lt;Integer, Integer&gt;} it never boxes, and {@link #of(int, int)}
+ * hands out shared instances for the squares of small boards.
+ *
+ * <p>Two packed forms are supported: the board-independent {@code long} of
+ * {@link PackedCoordinates}, and the {@code int} square index
+ * {@code x * boardSize + y} used by the bitset boards.
+ */
+public record Coordinate(int x, int y) {
+    private static final int CACHE_SIZE = 64;
+    private static final Coordinate[] CACHE = new Coordinate[CACHE_SIZE * CACHE_SIZE];
+
+    static {
+        for (int x = 0; x < CACHE_SIZE; x++) {
+            for (int y = 0; y < CACHE_SIZE; y++) {
+                CACHE[x * CACHE_SIZE + y] = new Coordinate(x, y);
+            }
+        }
+    }
+
+    public static Coordinate of(int x, int y) {
+        if (x >= 0 && x < CACHE_SIZE && y >= 0 && y < CACHE_SIZE) {
+            return CACHE[x * CACHE_SIZE + y];
+        }
+        return new Coordinate(x, y);
+    }
+
+    public static Coordinate unpack(long packed) {
+        return of(PackedCoordinates.x(packed), PackedCoordinates.y(packed));
+    }
+
+    public static Coordinate fromIndex(int index, int boardSize) {
+        return of(index / boardSize, index % boardSize);
+    }
+
+    public long pack() {
+        return PackedCoordinates.pack(x, y);
+    }
+
+    public int toIndex(int boardSize) {
+        return x * boardSize + y;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + x + ", " + y + ")";
+    }
+}
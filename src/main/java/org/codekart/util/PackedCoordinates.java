@@ -0,0 +1,24 @@
+package org.codekart.util;
+
+/**
+ * Packs an {@code (x, y)} coordinate into a single {@code long} so it can be
+ * passed around without allocating. {@code x} occupies the high 32 bits and
+ * {@code y} the low 32 bits.
+ */
+public final class PackedCoordinates {
+
+    private PackedCoordinates() {
+    }
+
+    public static long pack(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    public static int x(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    public static int y(long packed) {
+        return (int) packed;
+    }
+}
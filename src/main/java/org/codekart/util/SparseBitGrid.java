@@ -0,0 +1,128 @@
+package org.codekart.util;
+
+import java.util.Arrays;
+
+/**
+ * Two-dimensional bitset that only stores the {@value #CHUNK}x{@value #CHUNK}
+ * chunks holding at least one set bit, so memory follows the number of set
+ * regions rather than the area. Each chunk is {@value #CHUNK} words, one per
+ * row, with column {@code y} in bit {@code y % CHUNK}; chunks are found through
+ * a {@link LongObjectMap} keyed by the {@link PackedCoordinates packed} chunk
+ * coordinate.
+ *
+ * <p>Coordinates must be non-negative.
+ */
+public final class SparseBitGrid {
+    public static final int CHUNK_SHIFT = 6;
+    public static final int CHUNK = 1 << CHUNK_SHIFT;
+    private static final int LOCAL_MASK = CHUNK - 1;
+
+    private final LongObjectMap<long[]> chunks = new LongObjectMap<>();
+
+    public boolean get(int x, int y) {
+        long[] chunk = chunks.get(chunkKey(x, y));
+        return chunk != null && (chunk[x & LOCAL_MASK] & (1L << y)) != 0;
+    }
+
+    /**
+     * Sets the bit.
+     *
+     * @return {@code false} if it was already set
+     */
+    public boolean set(int x, int y) {
+        long[] chunk = chunk(x, y);
+        long bit = 1L << y;
+        int row = x & LOCAL_MASK;
+        if ((chunk[row] & bit) != 0) {
+            return false;
+        }
+        chunk[row] |= bit;
+        return true;
+    }
+
+    public void clear(int x, int y) {
+        long[] chunk = chunks.get(chunkKey(x, y));
+        if (chunk != null) {
+            chunk[x & LOCAL_MASK] &= ~(1L << y);
+        }
+    }
+
+    /**
+     * Returns whether any bit of row {@code x} in columns {@code [fromY, toY)}
+     * is set, testing one masked word per chunk the range crosses.
+     */
+    public boolean anySetInRow(int x, int fromY, int toY) {
+        int row = x & LOCAL_MASK;
+        for (int y = fromY; y < toY; y = (y | LOCAL_MASK) + 1) {
+            long[] chunk = chunks.get(chunkKey(x, y));
+            if (chunk != null && (chunk[row] & rowMask(y, toY)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sets every bit of row {@code x} in columns {@code [fromY, toY)}.
+     */
+    public void setRow(int x, int fromY, int toY) {
+        int row = x & LOCAL_MASK;
+        for (int y = fromY; y < toY; y = (y | LOCAL_MASK) + 1) {
+            chunk(x, y)[row] |= rowMask(y, toY);
+        }
+    }
+
+    /**
+     * ORs every set bit into {@code words}, a dense bitset indexed by
+     * {@code x * rowLength + y}.
+     */
+    public void copyTo(long[] words, int rowLength) {
+        chunks.forEach((key, chunk) -> {
+            long baseX = (long) PackedCoordinates.x(key) << CHUNK_SHIFT;
+            long baseY = (long) PackedCoordinates.y(key) << CHUNK_SHIFT;
+            for (int row = 0; row < CHUNK; row++) {
+                long bits = chunk[row];
+                while (bits != 0) {
+                    long index = (baseX + row) * rowLength + baseY + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    words[(int) (index >>> 6)] |= 1L << index;
+                }
+            }
+        });
+    }
+
+    /**
+     * Clears every bit, keeping the chunks allocated for reuse.
+     */
+    public void clear() {
+        chunks.forEach((key, chunk) -> Arrays.fill(chunk, 0L));
+    }
+
+    /**
+     * Returns the number of chunks allocated so far.
+     */
+    public int chunkCount() {
+        return chunks.size();
+    }
+
+    private long[] chunk(int x, int y) {
+        long key = chunkKey(x, y);
+        long[] chunk = chunks.get(key);
+        if (chunk == null) {
+            chunk = new long[CHUNK];
+            chunks.put(key, chunk);
+        }
+        return chunk;
+    }
+
+    // Bits from y up to toY, clipped to the chunk column range containing y
+    private static long rowMask(int y, int toY) {
+        long mask = -1L << y;
+        int chunkEnd = (y | LOCAL_MASK) + 1;
+        return toY >= chunkEnd ? mask : mask & (-1L >>> -toY);
+    }
+
+    public static long chunkKey(int x, int y) {
+        return PackedCoordinates.pack(x >>> CHUNK_SHIFT, y >>> CHUNK_SHIFT);
+    }
+}
@@ -0,0 +1,88 @@
+package org.codekart.events;
+
+import org.codekart.models.Game;
+import org.codekart.models.GridBoard;
+import org.codekart.models.Player;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncConsoleEventListenerTest {
+
+    @Test
+    void testClose_WritesSameOutputAsConsoleListener() {
+        ByteArrayOutputStream syncOut = new ByteArrayOutputStream();
+        ByteArrayOutputStream asyncOut = new ByteArrayOutputStream();
+        playScriptedGame(new ConsoleEventListener(new PrintStream(syncOut, true)));
+
+        AsyncConsoleEventListener async = new AsyncConsoleEventListener(new PrintStream(asyncOut, true), 64, 2);
+        playScriptedGame(async);
+        async.close();
+
+        assertFalse(syncOut.toString().isEmpty());
+        assertEquals(syncOut.toString(), asyncOut.toString());
+        assertEquals(0, async.getDroppedEvents());
+    }
+
+    @Test
+    void testOnMiss_AfterClose_IsIgnored() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AsyncConsoleEventListener async = new AsyncConsoleEventListener(new PrintStream(out), 4, 4);
+        async.close();
+
+        async.onMiss(null, new Player("A", "PlayerA", 0, 1), 0, 0);
+
+        assertEquals("", out.toString());
+        assertEquals(0, async.getDroppedEvents());
+    }
+
+    @Test
+    void testOnMiss_WriterBlocked_DropsAndCountsInsteadOfBlocking() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PrintStream blocking = new PrintStream(out, true) {
+            @Override
+            public void print(Object text) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.print(text);
+            }
+        };
+        AsyncConsoleEventListener async = new AsyncConsoleEventListener(blocking, 2, 1);
+        Player player = new Player("A", "PlayerA", 0, 1);
+
+        Thread.currentThread().interrupt();
+        for (int i = 0; i < 100; i++) {
+            async.onMiss(null, player, 0, i);
+        }
+        assertTrue(Thread.interrupted());
+        release.countDown();
+        async.close();
+
+        assertTrue(async.getDroppedEvents() >= 97, "dropped " + async.getDroppedEvents());
+        assertTrue(out.toString().contains(" events dropped, output fell behind"), out.toString());
+    }
+
+    private static void playScriptedGame(GameEventListener listener) {
+        Game game = new Game("g1", new GridBoard(2));
+        game.setEventListener(listener);
+        game.addShip("SH1", 1, 0, 0, 1, 0);
+        game.startGame();
+        Player playerA = game.getBoard().getPlayers().get(0);
+        Player playerB = game.getBoard().getPlayers().get(1);
+
+        game.hitShip(playerA, 1, 1);
+        listener.onTurnEnded(game);
+        game.hitShip(playerB, 0, 1);
+        listener.onTurnEnded(game);
+        game.hitShip(playerA, 1, 0);
+        listener.onTurnEnded(game);
+    }
+}
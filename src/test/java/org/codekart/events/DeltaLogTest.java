@@ -0,0 +1,85 @@
+package org.codekart.events;
+
+import org.codekart.models.Game;
+import org.codekart.models.Player;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeltaLogTest {
+
+    @Test
+    void testReadSince_RecordsEveryMove() {
+        Game game = new Game("g1", 6);
+        DeltaLog log = new DeltaLog();
+        game.setEventListener(log);
+        game.addShip("SH1", 1, 0, 0, 3, 0);
+        game.startGame();
+        Player playerA = game.getBoard().getPlayers().get(0);
+        game.hitShip(playerA, 5, 5);
+        game.hitShip(game.getBoard().getPlayers().get(1), 2, 2);
+        game.hitShip(playerA, 3, 0);
+
+        ByteBuffer out = ByteBuffer.allocate(1024);
+        assertEquals(8, log.readSince(0, out));
+        out.flip();
+        StringBuilder seen = new StringBuilder();
+        DeltaLog.decode(out, 1, (version, type, player, a, b, c) ->
+                seen.append(version).append(':').append(type).append('/').append(player)
+                        .append('/').append(a).append(',').append(b).append(',').append(c).append(' '));
+
+        assertEquals("1:1/0/0,0,0 2:3/0/5,5,1 3:5/1/0,0,1 4:3/1/2,2,2 5:5/0/0,0,2 "
+                + "6:2/0/3,0,3 7:4/1/3,0,1 8:6/0/0,0,3 ", seen.toString());
+    }
+
+    @Test
+    void testReadSince_FallenBehind_RequiresSnapshot() {
+        Game game = new Game("g1", 10);
+        DeltaLog log = new DeltaLog(4);
+        game.setEventListener(log);
+        game.addShip("SH1", 1, 0, 0, 9, 9);
+        game.startGame();
+        for (int i = 1; i <= 3; i++) {
+            game.hitShip(game.getBoard().getPlayers().get(0), 5, i);
+            game.hitShip(game.getBoard().getPlayers().get(1), 1, i);
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(2 * DeltaLog.RECORD_SIZE);
+        assertEquals(13, log.getVersion());
+        assertEquals(DeltaLog.SNAPSHOT_REQUIRED, log.readSince(8, out));
+        assertEquals(0, out.position());
+        assertEquals(11, log.readSince(9, out));
+        assertEquals(2 * DeltaLog.RECORD_SIZE, out.position());
+        assertThrows(IllegalArgumentException.class, () -> log.readSince(14, out));
+    }
+
+    @Test
+    void testReadSince_GrowsPastInitialRingThenWraps() {
+        Game game = new Game("g1", 20);
+        DeltaLog log = new DeltaLog(300);
+        game.setEventListener(log);
+        game.addShip("SH1", 1, 0, 0, 19, 19);
+        game.startGame();
+        Player playerA = game.getBoard().getPlayers().get(0);
+        Player playerB = game.getBoard().getPlayers().get(1);
+        for (int i = 0; i < 100; i++) {
+            game.hitShip(playerA, 10 + i / 20, i % 20);
+            game.hitShip(playerB, 1 + i / 20, i % 20);
+        }
+
+        assertEquals(401, log.getVersion());
+        ByteBuffer out = ByteBuffer.allocate(300 * DeltaLog.RECORD_SIZE);
+        assertEquals(DeltaLog.SNAPSHOT_REQUIRED, log.readSince(100, out));
+        assertEquals(401, log.readSince(101, out));
+        out.flip();
+        long[] versions = new long[2];
+        DeltaLog.decode(out, 102, (version, type, player, a, b, c) -> {
+            versions[0] = versions[0] == 0 ? version : versions[0];
+            versions[1] = type == DeltaLog.TURN ? c : versions[1];
+        });
+        assertEquals(102, versions[0]);
+        assertEquals(200, versions[1]);
+    }
+}
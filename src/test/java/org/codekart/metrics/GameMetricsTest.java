@@ -0,0 +1,88 @@
+package org.codekart.metrics;
+
+import org.codekart.events.GameEventListener;
+import org.codekart.models.BoardType;
+import org.codekart.service.GameService;
+import org.codekart.service.ShuffledFiringStrategy;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameMetricsTest {
+
+    private GameService playGames(int games) {
+        GameService gameService = new GameService(ShuffledFiringStrategy::new);
+        gameService.setEventListener(GameEventListener.NO_OP);
+        for (int i = 0; i < games; i++) {
+            gameService.initGame(6, BoardType.BITSET);
+            gameService.addShip("SH1", 2, 1, 2, 4, 2);
+            gameService.playFullGame();
+        }
+        return gameService;
+    }
+
+    @Test
+    void testGameService_RecordsCountersAndLatencies() {
+        GameMetrics metrics = playGames(3).getMetrics();
+
+        assertEquals(3, metrics.getGamesCreated());
+        assertEquals(3, metrics.getGamesStarted());
+        assertEquals(3, metrics.getGamesFinished());
+        assertEquals(3, metrics.getShipsSunk());
+        assertEquals(metrics.getShots(), metrics.getHits() + metrics.getMisses());
+        assertEquals(metrics.getShots(), metrics.getPlayTurnLatency().getCount());
+        assertEquals(metrics.getShots(), metrics.getHitShipLatency().getCount());
+
+        StrategyMetrics strategy = metrics.getStrategies().get("Shuffled Random Firing Strategy");
+        assertEquals(metrics.getShots(), strategy.getShots());
+        assertEquals(metrics.getHits(), strategy.getHits());
+        assertEquals(metrics.getShots(), strategy.getStrikeLatency().getCount());
+    }
+
+    @Test
+    void testRegister_ExposesMetricsOverJmx() throws Exception {
+        GameMetrics metrics = playGames(1).getMetrics();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = metrics.register("test-" + System.nanoTime());
+        try {
+            assertEquals(1L, server.getAttribute(name, "GamesFinished"));
+            CompositeData latency = (CompositeData) server.getAttribute(name, "PlayTurnLatency");
+            assertEquals(metrics.getShots(), latency.get("count"));
+            TabularData strategies = (TabularData) server.getAttribute(name, "Strategies");
+            assertEquals(1, strategies.size());
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+
+    @Test
+    void testLatencyHistogram_PercentilesWithinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(10_000_000, histogram.getMax());
+        long p50 = histogram.getValueAtPercentile(50);
+        long p99 = histogram.getValueAtPercentile(99);
+        assertTrue(Math.abs(p50 - 5_000_000) <= 5_000_000 / 16, "p50 " + p50);
+        assertTrue(Math.abs(p99 - 9_900_000) <= 9_900_000 / 16, "p99 " + p99);
+        assertEquals(0, new LatencyHistogram().getValueAtPercentile(99));
+    }
+
+    @Test
+    void testLatencyHistogram_BucketBoundsCoverEveryValue() {
+        for (long value : new long[]{0, 1, 15, 16, 17, 31, 32, 1_000, 123_456_789, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(value <= LatencyHistogram.bucketUpperBound(index), "value " + value);
+            assertTrue(index == 0 || value > LatencyHistogram.bucketUpperBound(index - 1), "value " + value);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.codekart.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BattleFieldRendererTest {
+    private static final String NL = System.lineSeparator();
+
+    @Test
+    void testRender_MatchesCellLayout() throws IOException {
+        Game game = new Game("g1", 4);
+        game.addShip("SH1", 1, 0, 1, 3, 2);
+        StringBuilder out = new StringBuilder();
+
+        game.renderBattleField(out);
+
+        assertEquals("Battlefield Status:" + NL
+                + "-- PlayerA-SH1_A -- -- " + NL
+                + "-- -- -- -- " + NL
+                + "-- -- -- -- " + NL
+                + "-- -- PlayerB-SH1_B -- " + NL, out.toString());
+    }
+
+    @Test
+    void testRender_Window_ClipsToBoard() throws IOException {
+        BitBoard board = new BitBoard(4);
+        board.placeShip(new BattleShip("S", 1, board.getPlayers().get(1)), 3, 3);
+        StringWriter out = new StringWriter();
+
+        new BattleFieldRenderer().render(board, out, 2, 2, 5, 5);
+
+        assertEquals("-- -- " + NL + "-- PlayerB-S " + NL, out.toString());
+    }
+
+    @Test
+    void testRender_LargeBoard_WritesInChunks() throws IOException {
+        BitBoard board = new BitBoard(400);
+        int[] appends = new int[1];
+        StringBuilder sink = new StringBuilder();
+        Appendable out = new Appendable() {
+            @Override
+            public Appendable append(CharSequence csq) {
+                appends[0]++;
+                sink.append(csq);
+                return this;
+            }
+
+            @Override
+            public Appendable append(CharSequence csq, int start, int end) {
+                return append(csq.subSequence(start, end));
+            }
+
+            @Override
+            public Appendable append(char c) {
+                return append(String.valueOf(c));
+            }
+        };
+
+        new BattleFieldRenderer().render(board, out);
+
+        assertEquals(400 * (400 * 3 + NL.length()), sink.length());
+        assertTrue(appends[0] < 400, "expected chunked output, got " + appends[0] + " appends");
+    }
+
+    @Test
+    void testCells_Window_IteratesLazilyInRowOrder() {
+        BitBoard board = new BitBoard(6);
+        int count = 0;
+        for (Cell cell : board.cells(4, 5, 3, 3)) {
+            assertTrue(cell.getX() >= 4 && cell.getY() == 5);
+            count++;
+        }
+        assertEquals(2, count);
+        assertFalse(board.cells(6, 0, 1, 1).iterator().hasNext());
+    }
+}
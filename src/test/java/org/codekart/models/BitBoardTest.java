@@ -0,0 +1,118 @@
+package org.codekart.models;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitBoardTest {
+
+    @Test
+    void testGetCell_OutOfBounds_ReturnsNull() {
+        BitBoard board = new BitBoard(6);
+        assertNull(board.getCell(-1, 0));
+        assertNull(board.getCell(0, 6));
+    }
+
+    @Test
+    void testGetCell_ReturnsViewWithTerritoryOwner() {
+        BitBoard board = new BitBoard(6);
+        assertEquals("A", board.getCell(2, 5).getPlayer().getId());
+        assertEquals("B", board.getCell(3, 0).getPlayer().getId());
+        assertFalse(board.getCell(3, 0).isCellOccupied());
+    }
+
+    @Test
+    void testPlaceShip_MatchesGridBoard() {
+        BitBoard bitBoard = new BitBoard(6);
+        GridBoard gridBoard = new GridBoard(6);
+        BattleShip bitShip = new BattleShip("SH1", 2, bitBoard.getPlayers().get(0));
+        BattleShip gridShip = new BattleShip("SH1", 2, gridBoard.getPlayers().get(0));
+
+        bitBoard.placeShip(bitShip, 0, 1);
+        gridBoard.placeShip(gridShip, 0, 1);
+
+        for (int x = 0; x < 6; x++) {
+            for (int y = 0; y < 6; y++) {
+                assertEquals(gridBoard.isOccupied(x, y), bitBoard.isOccupied(x, y));
+                assertEquals(gridBoard.canPlaceShip(x, y, 2), bitBoard.canPlaceShip(x, y, 2));
+            }
+        }
+        assertSame(bitShip, bitBoard.getShipAt(1, 2));
+        assertSame(bitShip, bitBoard.getCell(1, 2).getShip());
+        assertNull(bitBoard.getShipAt(2, 2));
+        assertEquals(4, bitShip.getOccupiedCells().size());
+        assertEquals(new Cell(1, 2, null), bitShip.getOccupiedCells().get(3));
+        assertTrue(bitShip.getOccupiedCells().get(3).isCellOccupied());
+        assertTrue(bitShip.covers(1, 2));
+        assertFalse(bitShip.covers(2, 2));
+        assertEquals(4, bitShip.getRemainingHits());
+    }
+
+    @Test
+    void testCanPlaceShip_RowsSpanningWords_MatchesGridBoard() {
+        // Rows of 100 squares straddle 64-bit words at different offsets
+        BitBoard bitBoard = new BitBoard(100);
+        GridBoard gridBoard = new GridBoard(100);
+        bitBoard.placeShip(new BattleShip("SH1", 70, bitBoard.getPlayers().get(0)), 3, 20);
+        gridBoard.placeShip(new BattleShip("SH1", 70, gridBoard.getPlayers().get(0)), 3, 20);
+
+        for (int x = 0; x < 100; x += 7) {
+            for (int y = 0; y < 100; y++) {
+                for (int size : new int[]{1, 5, 64, 65}) {
+                    assertEquals(gridBoard.canPlaceShip(x, y, size), bitBoard.canPlaceShip(x, y, size),
+                            "x=" + x + " y=" + y + " size=" + size);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testCellView_HitWritesThroughToBoard() {
+        BitBoard board = new BitBoard(6);
+        Cell cell = board.getCell(4, 4);
+
+        assertTrue(cell.hit());
+        assertFalse(cell.hit());
+        assertTrue(board.isHit(4, 4));
+        assertTrue(board.getCell(4, 4).isCellHit());
+    }
+
+    @Test
+    void testHitShip_OnBitBoard_DestroysShipAndEndsGame() {
+        Game game = new Game("g1", new BitBoard(6));
+        assertTrue(game.addShip("SH1", 2, 1, 2, 4, 2));
+        game.startGame();
+
+        Player playerA = game.getBoard().getPlayers().get(0);
+        Player playerB = game.getBoard().getPlayers().get(1);
+        int[][] targetsB = {{3, 1}, {3, 2}, {4, 1}, {4, 2}};
+        int[][] missesA = {{2, 0}, {2, 1}, {2, 2}};
+        for (int i = 0; i < targetsB.length; i++) {
+            assertTrue(game.hitShip(playerA, targetsB[i][0], targetsB[i][1]));
+            if (i < missesA.length) {
+                assertTrue(game.hitShip(playerB, missesA[i][0], missesA[i][1]));
+            }
+        }
+
+        assertTrue(game.isGameFinished());
+        assertSame(playerA, game.getWinner());
+        assertTrue(game.getBoard().getShipAt(3, 1).isDestroyed());
+    }
+
+    @Test
+    void testCellSetShip_KnownAndNewShips_ResolveToThoseShips() {
+        BitBoard board = new BitBoard(6);
+        BattleShip placed = new BattleShip("SH1", 2, board.getPlayers().get(0));
+        BattleShip loose = new BattleShip("SH2", 1, board.getPlayers().get(1));
+        board.placeShip(placed, 0, 0);
+
+        board.getCell(2, 2).setShip(placed);
+        board.getCell(4, 4).setShip(loose);
+        board.getCell(4, 5).setShip(loose);
+
+        assertSame(placed, board.getShipAt(2, 2));
+        assertSame(loose, board.getShipAt(4, 5));
+        assertThrows(IllegalArgumentException.class, () -> board.getCell(5, 5).setShip(null));
+        assertFalse(board.isOccupied(5, 5));
+    }
+}
@@ -0,0 +1,279 @@
+package org.codekart.models;
+
+import org.codekart.events.GameEventListener;
+import org.codekart.util.Coordinate;
+import org.codekart.util.PackedCoordinates;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameTest {
+
+    @Test
+    void testAddShips_ValidFleet_PlacesEveryShip() {
+        Game game = new Game("g1", new BitBoard(10));
+        Fleet fleet = new Fleet().add("SH1", 2, 1, 1, 6, 1).add("SH2", 3, 2, 6, 8, 6);
+
+        game.addShips(fleet);
+
+        assertEquals(2, game.getBoard().getPlayers().get(0).getAliveShipCount());
+        assertEquals(2, game.getBoard().getPlayers().get(1).getAliveShipCount());
+        assertEquals("SH2_B", game.getBoard().getShipAt(9, 7).getId());
+    }
+
+    @Test
+    void testAddShips_ShipsOverlapEachOther_PlacesNothing() {
+        Game game = new Game("g1", 10);
+        Fleet fleet = new Fleet().add("SH1", 2, 1, 1, 6, 1).add("SH2", 3, 2, 2, 8, 6);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> game.addShips(fleet));
+
+        assertTrue(exception.getMessage().contains("SH2"));
+        assertTrue(game.getBoard().getPlayers().get(0).getShips().isEmpty());
+        assertFalse(game.getBoard().isOccupied(1, 1));
+    }
+
+    @Test
+    void testAddShips_OverlapsPlacedShip_ThrowsException() {
+        Game game = new Game("g1", new BitBoard(10));
+        game.addShip("SH1", 1, 0, 0, 5, 0);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> game.addShips(new Fleet().add("SH2", 3, 1, 1, 8, 8)));
+        assertEquals(1, game.getBoard().getPlayers().get(1).getShips().size());
+    }
+
+    @Test
+    void testHitShip_PackedAndRecordCoordinates_MatchIntOverload() {
+        Game game = new Game("g1", new BitBoard(6));
+        game.addShip("SH1", 1, 0, 0, 3, 0);
+        game.startGame();
+        Player playerA = game.getBoard().getPlayers().get(0);
+        Player playerB = game.getBoard().getPlayers().get(1);
+
+        assertTrue(game.hitShip(playerA, PackedCoordinates.pack(5, 5)));
+        assertFalse(game.hitShip(playerB, PackedCoordinates.pack(-1, 2)));
+        assertTrue(game.hitShip(playerB, Coordinate.of(1, 1)));
+        assertEquals(ShotResult.SUNK, game.fireShot(playerA, Coordinate.of(3, 0).pack()));
+        assertTrue(game.getBoard().getCell(Coordinate.of(3, 0)).isHit());
+        assertSame(game.getBoard().getShipAt(0, 0), game.getBoard().getCell(PackedCoordinates.pack(0, 0)).getShip());
+    }
+
+    @Test
+    void testCoordinate_PackedFormsRoundTrip() {
+        Coordinate coordinate = Coordinate.of(7, 3);
+
+        assertSame(coordinate, Coordinate.unpack(coordinate.pack()));
+        assertEquals(coordinate, Coordinate.fromIndex(coordinate.toIndex(10), 10));
+        assertEquals(new Coordinate(-4, 100_000), Coordinate.unpack(PackedCoordinates.pack(-4, 100_000)));
+    }
+
+    @Test
+    void testEqualsHashCodeToString_ShipCellCycle_StayBounded() {
+        Game game = new Game("g1", 10);
+        game.addShip("SH1", 2, 1, 1, 6, 1);
+        BattleShip ship = game.getBoard().getShipAt(1, 1);
+        Cell cell = game.getBoard().getCell(1, 1);
+
+        assertEquals(ship, ship.getOwner().getShips().get(0));
+        assertEquals(cell.hashCode(), game.getBoard().getCell(1, 1).hashCode());
+        assertNotEquals(new BattleShip("SH1_A", 2, null), ship);
+        assertNotEquals(game.getBoard(), new GridBoard(10));
+        assertTrue(ship.toString().contains("owner=A"), ship.toString());
+        assertTrue(game.toString().length() < 200, game.toString());
+        assertTrue(game.getBoard().toString().length() < 200, game.getBoard().toString());
+        assertEquals("Cell(x=1, y=1, isHit=false, isOccupied=true)", cell.toString());
+    }
+
+    @Test
+    void testFireShot_SameIdPlayerFromAnotherGame_IsNotTheirTurn() {
+        Game game = new Game("g1", 10);
+        game.addShip("SH1", 2, 1, 1, 6, 1);
+        game.startGame();
+        Player otherA = new Game("g2", 10).getBoard().getPlayers().get(0);
+
+        assertNotEquals(game.getCurrentPlayer(), otherA);
+        assertThrows(IllegalStateException.class, () -> game.fireShot(otherA, 6, 1));
+        assertEquals(0, game.getTurnCount());
+    }
+
+    @Test
+    void testSpectate_DuringPlay_EveryViewIsAWholeMove() throws InterruptedException {
+        Game game = new Game("g1", 32);
+        game.addShip("SH1", 4, 2, 2, 18, 2);
+        game.addShip("SH2", 2, 10, 20, 25, 20);
+        game.startGame();
+
+        AtomicReference<String> torn = new AtomicReference<>();
+        AtomicInteger views = new AtomicInteger();
+        Thread spectator = new Thread(() -> {
+            GameView view = game.spectate();
+            while (view.getState() != GameState.FINISHED && torn.get() == null) {
+                game.spectate(view);
+                views.incrementAndGet();
+                if (view.getHitCount() != view.getTurnCount()
+                        || (view.getState() == GameState.FINISHED) != (view.getWinnerId() != null)) {
+                    torn.set("Torn view at turn " + view.getTurnCount() + ": " + view.getHitCount() + " hits");
+                }
+            }
+        });
+        spectator.start();
+        while (views.get() == 0) {
+            Thread.onSpinWait();
+        }
+
+        Player playerA = game.getBoard().getPlayers().get(0);
+        Player playerB = game.getBoard().getPlayers().get(1);
+        for (int i = 0; i < 16 * 32 && !game.isGameFinished(); i++) {
+            game.hitShip(playerA, 16 + i / 32, i % 32);
+            if (!game.isGameFinished()) {
+                game.hitShip(playerB, i / 32, i % 32);
+            }
+        }
+        spectator.join(10_000);
+
+        assertNull(torn.get());
+        GameView last = game.spectate();
+        assertEquals("A", last.getWinnerId());
+        assertEquals(0, last.getAliveShipCount(1));
+        assertTrue(last.isHit(17, 1));
+        assertTrue(last.isOccupied(2, 2));
+    }
+
+    @Test
+    void testSpectate_SpectatorsPollingLargeBoard_WriterKeepsPlaying() throws InterruptedException {
+        Game game = new Game("g1", 512);
+        game.addShip("SH1", 4, 200, 200, 500, 500);
+        game.startGame();
+        Player playerA = game.getBoard().getPlayers().get(0);
+        Player playerB = game.getBoard().getPlayers().get(1);
+        int moves = 1000;
+
+        AtomicReference<String> torn = new AtomicReference<>();
+        AtomicInteger views = new AtomicInteger();
+        List<Thread> spectators = new ArrayList<>();
+        for (int s = 0; s < 4; s++) {
+            Thread spectator = new Thread(() -> {
+                GameView view = game.spectate();
+                while (view.getTurnCount() < 2 * moves && torn.get() == null) {
+                    game.spectate(view);
+                    views.incrementAndGet();
+                    if (view.getHitCount() != view.getTurnCount()) {
+                        torn.set("Torn view at turn " + view.getTurnCount() + ": " + view.getHitCount() + " hits");
+                    }
+                }
+            });
+            spectator.start();
+            spectators.add(spectator);
+        }
+        while (views.get() < spectators.size()) {
+            Thread.onSpinWait();
+        }
+
+        assertTimeoutPreemptively(Duration.ofSeconds(20), () -> {
+            for (int i = 0; i < moves; i++) {
+                game.hitShip(playerA, 256 + i / 512, i % 512);
+                game.hitShip(playerB, i / 512, i % 512);
+            }
+        });
+        for (Thread spectator : spectators) {
+            spectator.join(10_000);
+        }
+
+        assertNull(torn.get());
+        assertEquals(2 * moves, game.getTurnCount());
+        assertEquals(2 * moves, game.spectate().getHitCount());
+    }
+
+    @Test
+    void testSpectate_FromListener_SeesTheWholeMove() {
+        Game game = new Game("g1", new BitBoard(6));
+        game.addShip("SH1", 1, 0, 0, 3, 0);
+        game.startGame();
+        AtomicReference<GameView> seen = new AtomicReference<>();
+        game.setEventListener(new GameEventListener() {
+            @Override
+            public void onShotFired(Game game, Player attacker, int x, int y) {
+                seen.set(game.spectate());
+            }
+        });
+
+        game.hitShip(game.getBoard().getPlayers().get(0), 3, 0);
+
+        assertEquals(GameState.FINISHED, seen.get().getState());
+        assertEquals(1, seen.get().getTurnCount());
+        assertEquals("A", seen.get().getWinnerId());
+    }
+
+    @Test
+    void testReset_EveryBoardType_PlaysAgainFromScratch() {
+        for (BoardType type : BoardType.values()) {
+            Game game = new Game("g1", type.create(6));
+            game.addShip("SH1", 2, 1, 1, 4, 1);
+            game.startGame();
+            game.hitShip(game.getBoard().getPlayers().get(0), 4, 1);
+
+            game.reset("g2");
+
+            assertEquals("g2", game.getGameId(), type.name());
+            assertSame(game.getBoard().getPlayers().get(0), game.getCurrentPlayer());
+            assertEquals(0, game.getBoard().getPlayers().get(0).getAliveShipCount());
+            assertNull(game.getBoard().getShipAt(1, 1), type.name());
+            assertFalse(game.getBoard().isHit(4, 1), type.name());
+            assertEquals(0, game.spectate().getHitCount());
+            assertTrue(game.addShip("SH2", 2, 1, 1, 4, 1), type.name());
+            assertEquals(4, game.getBoard().getShipAt(1, 1).getRemainingHits());
+        }
+    }
+
+    @Test
+    void testTerritoryLayout_SplitsRowsEvenly() {
+        TerritoryLayout layout = TerritoryLayout.of(10, 4);
+
+        assertEquals(0, layout.getStartRow(0));
+        assertEquals(2, layout.getEndRow(0));
+        assertEquals(7, layout.getStartRow(3));
+        assertEquals(10, layout.getEndRow(3));
+        assertEquals(1, layout.territoryOf(4));
+        assertEquals(2, layout.territoryOf(5));
+        assertThrows(IllegalArgumentException.class, () -> TerritoryLayout.of(10, 1));
+        assertThrows(IllegalArgumentException.class, () -> TerritoryLayout.of(100, 27));
+        assertThrows(IllegalArgumentException.class, () -> new GridBoard(3, 4));
+
+        Board board = BoardType.SPARSE.create(12, 4);
+        assertEquals("D", board.getTerritoryOwner(11).getId());
+        assertEquals(2, board.indexOf(board.getTerritoryOwner(6)));
+        assertThrows(IllegalArgumentException.class, () -> board.indexOf(BoardType.SPARSE.create(12, 4).getPlayers().get(2)));
+    }
+
+    @Test
+    void testFireShot_FourPlayers_RotatesAndSkipsEliminatedPlayers() {
+        Game game = new Game("ffa", BoardType.BITSET.create(8, 4));
+        List<Player> players = game.getBoard().getPlayers();
+        for (Player player : players) {
+            assertTrue(game.addShip(player, "SH1", 1, player.getTerritoryStartX(), 0));
+        }
+        assertFalse(game.addShip(players.get(0), "SH2", 2, 1, 5));
+        game.startGame();
+
+        assertEquals(ShotResult.SUNK, game.fireShot(players.get(0), 2, 0));
+        assertSame(players.get(2), game.getCurrentPlayer());
+        assertEquals(ShotResult.MISS, game.fireShot(players.get(2), 0, 7));
+        assertSame(players.get(3), game.getCurrentPlayer());
+        assertEquals(ShotResult.SUNK, game.fireShot(players.get(3), 0, 0));
+        assertSame(players.get(2), game.getCurrentPlayer());
+        assertEquals(GameState.IN_PROGRESS, game.getState());
+
+        assertEquals(ShotResult.SUNK, game.fireShot(players.get(2), 6, 0));
+        assertEquals(GameState.FINISHED, game.getState());
+        assertSame(players.get(2), game.getWinner());
+        assertEquals("SH1_C", game.getBoard().getShipAt(4, 0).getId());
+    }
+}
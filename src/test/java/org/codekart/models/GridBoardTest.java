@@ -0,0 +1,63 @@
+package org.codekart.models;
+
+import org.codekart.util.Bits;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GridBoardTest {
+
+    @Test
+    void testCanPlaceShip_CellOccupancyChanges_KeepIndexInSync() {
+        GridBoard board = new GridBoard(100);
+        board.placeShip(new BattleShip("SH1", 3, board.getPlayers().get(0)), 10, 62);
+
+        assertFalse(board.canPlaceShip(11, 60, 3));
+        assertTrue(board.canPlaceShip(11, 65, 3));
+
+        board.getCell(12, 66).setOccupied(true);
+        assertFalse(board.canPlaceShip(11, 65, 3));
+
+        board.getCell(12, 66).setOccupied(false);
+        assertTrue(board.canPlaceShip(11, 65, 3));
+    }
+
+    @Test
+    void testReset_ClearsOccupancyIndex() {
+        GridBoard board = new GridBoard(10);
+        board.placeShip(new BattleShip("SH1", 4, board.getPlayers().get(0)), 0, 0);
+        assertFalse(board.canPlaceShip(0, 0, 1));
+
+        board.reset();
+
+        assertTrue(board.canPlaceShip(0, 0, 4));
+        assertFalse(board.isOccupied(3, 3));
+    }
+
+    @Test
+    void testCopyHitsAndOccupancy_UnalignedRows_MatchBitBoard() {
+        GridBoard grid = new GridBoard(70);
+        BitBoard bits = new BitBoard(70);
+        for (Board board : new Board[]{grid, bits}) {
+            board.placeShip(new BattleShip("SH1", 5, board.getPlayers().get(0)), 3, 64);
+            board.placeShip(new BattleShip("SH2", 3, board.getPlayers().get(1)), 67, 5);
+            for (int[] shot : new int[][]{{0, 0}, {0, 69}, {3, 64}, {41, 63}, {69, 0}, {69, 69}}) {
+                board.markHit(shot[0], shot[1]);
+            }
+        }
+        long[] gridWords = Bits.words(70 * 70);
+        long[] bitWords = Bits.words(70 * 70);
+
+        grid.copyHitsTo(gridWords);
+        bits.copyHitsTo(bitWords);
+        assertArrayEquals(bitWords, gridWords);
+
+        Arrays.fill(gridWords, 0L);
+        Arrays.fill(bitWords, 0L);
+        grid.copyOccupancyTo(gridWords);
+        bits.copyOccupancyTo(bitWords);
+        assertArrayEquals(bitWords, gridWords);
+    }
+}
@@ -0,0 +1,113 @@
+package org.codekart.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SparseBoardTest {
+
+    @Test
+    void testGetCell_OutOfBounds_ReturnsNull() {
+        SparseBoard board = new SparseBoard(6);
+        assertNull(board.getCell(-1, 0));
+        assertNull(board.getCell(0, 6));
+        assertEquals("B", board.getCell(3, 0).getPlayer().getId());
+    }
+
+    @Test
+    void testPlaceShip_AcrossChunkBoundary_MatchesBitBoard() {
+        SparseBoard sparseBoard = new SparseBoard(140);
+        BitBoard bitBoard = new BitBoard(140);
+        BattleShip sparseShip = new BattleShip("SH1", 5, sparseBoard.getPlayers().get(0));
+        BattleShip bitShip = new BattleShip("SH1", 5, bitBoard.getPlayers().get(0));
+
+        sparseBoard.placeShip(sparseShip, 61, 62);
+        bitBoard.placeShip(bitShip, 61, 62);
+
+        for (int x = 50; x < 75; x++) {
+            for (int y = 50; y < 75; y++) {
+                assertEquals(bitBoard.isOccupied(x, y), sparseBoard.isOccupied(x, y));
+                assertEquals(bitBoard.canPlaceShip(x, y, 3), sparseBoard.canPlaceShip(x, y, 3));
+            }
+        }
+        assertSame(sparseShip, sparseBoard.getShipAt(65, 66));
+        assertNull(sparseBoard.getShipAt(66, 66));
+        assertFalse(sparseBoard.canPlaceShip(136, 0, 5));
+        assertEquals(4, sparseBoard.getAllocatedChunkCount());
+
+        long[] sparseWords = new long[(140 * 140 + 63) / 64];
+        long[] bitWords = new long[sparseWords.length];
+        sparseBoard.copyOccupancyTo(sparseWords);
+        bitBoard.copyOccupancyTo(bitWords);
+        assertArrayEquals(bitWords, sparseWords);
+    }
+
+    @Test
+    void testHugeBoard_MemoryFollowsActivity() {
+        SparseBoard board = new SparseBoard(100_000);
+        Game game = new Game("huge", board);
+        Fleet fleet = new Fleet();
+        for (int i = 0; i < 2_000; i++) {
+            fleet.add("SH" + i, 3, 1 + (i % 100) * 400, 1 + (i / 100) * 2_000,
+                    50_001 + (i % 100) * 400, 1 + (i / 100) * 2_000);
+        }
+
+        game.addShips(fleet);
+        game.startGame();
+        assertTrue(game.hitShip(board.getPlayers().get(0), 99_999, 99_999));
+        assertFalse(board.isHit(0, 99_999));
+
+        assertEquals(2_000, board.getPlayers().get(1).getAliveShipCount());
+        assertTrue(board.isHit(99_999, 99_999));
+        assertEquals(board.getPlayers().get(1), board.getShipAt(50_001, 2_001).getOwner());
+        assertTrue(board.getAllocatedChunkCount() < 10_000);
+        assertThrows(IllegalArgumentException.class, game::spectate);
+    }
+
+    @Test
+    void testMarkHit_SecondTime_ReturnsFalse() {
+        SparseBoard board = new SparseBoard(1_000);
+        assertTrue(board.markHit(700, 3));
+        assertFalse(board.markHit(700, 3));
+        board.getCell(700, 3).setHit(false);
+        assertFalse(board.isHit(700, 3));
+    }
+
+    @Test
+    void testSpectate_WhileHitChunksAreAdded_NeverFailsOrTears() throws InterruptedException {
+        Game game = new Game("g1", new SparseBoard(1_024));
+        game.addShip("SH1", 1, 300, 1_000, 800, 1_000);
+        game.startGame();
+        Player playerA = game.getBoard().getPlayers().get(0);
+        Player playerB = game.getBoard().getPlayers().get(1);
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread spectator = new Thread(() -> {
+            try {
+                GameView view = game.spectate();
+                while (view.getState() != GameState.FINISHED) {
+                    game.spectate(view);
+                    if (view.getHitCount() != view.getTurnCount()) {
+                        throw new AssertionError("Torn view at turn " + view.getTurnCount());
+                    }
+                }
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        spectator.start();
+
+        // Every shot opens a new chunk, so the chunk maps grow several times during play
+        for (int i = 0; i < 128; i++) {
+            game.hitShip(playerA, 512 + (i / 16) * 64, (i % 16) * 64);
+            game.hitShip(playerB, (i / 16) * 64, (i % 16) * 64 + 1);
+        }
+        game.hitShip(playerA, 800, 1_000);
+        spectator.join(10_000);
+
+        assertNull(failure.get());
+        assertEquals(GameState.FINISHED, game.getState());
+    }
+}
@@ -0,0 +1,149 @@
+package org.codekart.persistence;
+
+import org.codekart.models.BitBoard;
+import org.codekart.models.BoardType;
+import org.codekart.models.Game;
+import org.codekart.models.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameJournalTest {
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @EnumSource(FsyncPolicy.class)
+    void testReplay_RebuildsJournaledGame(FsyncPolicy policy) throws IOException {
+        Path file = tempDir.resolve("game.journal");
+        Game game = new Game("g1", new BitBoard(6));
+        JournalConfig config = JournalConfig.builder().fsyncPolicy(policy).recordsPerSegment(4).build();
+
+        try (GameJournal journal = GameJournal.create(file, game, config)) {
+            game.setEventListener(journal);
+            game.addShip("SH1", 1, 0, 0, 3, 0);
+            game.addShip("a-ship-id-longer-than-one-record-can-hold", 1, 2, 5, 5, 5);
+            game.startGame();
+            Player playerA = game.getBoard().getPlayers().get(0);
+            Player playerB = game.getBoard().getPlayers().get(1);
+            game.hitShip(playerA, 3, 0);
+            game.hitShip(playerB, 1, 1);
+            game.hitShip(playerA, 4, 4);
+            game.hitShip(playerB, 0, 0);
+            assertEquals(8, journal.getRecordCount());
+        }
+
+        Game replayed = JournalReplay.replay(file);
+
+        assertEquals("g1", replayed.getGameId());
+        assertEquals(BoardType.BITSET, replayed.getBoard().getType());
+        assertEquals(game.getTurnCount(), replayed.getTurnCount());
+        assertEquals(game.getState(), replayed.getState());
+        assertEquals(game.getCurrentPlayer().getId(), replayed.getCurrentPlayer().getId());
+        assertEquals("a-ship-id-longer-than-one-record-can-hold_A",
+                replayed.getBoard().getPlayers().get(0).getShips().get(1).getId());
+        for (int p = 0; p < 2; p++) {
+            assertEquals(game.getBoard().getPlayers().get(p).getAliveShipCount(),
+                    replayed.getBoard().getPlayers().get(p).getAliveShipCount());
+        }
+        for (int x = 0; x < 6; x++) {
+            for (int y = 0; y < 6; y++) {
+                assertEquals(game.getBoard().isHit(x, y), replayed.getBoard().isHit(x, y));
+            }
+        }
+    }
+
+    @Test
+    void testReplay_FourPlayerGame_RebuildsShipsAndEliminations() throws IOException {
+        Path file = tempDir.resolve("ffa.journal");
+        Game game = new Game("ffa", BoardType.SPARSE.create(8, 4));
+
+        try (GameJournal journal = GameJournal.create(file, game)) {
+            game.setEventListener(journal);
+            for (Player player : game.getBoard().getPlayers()) {
+                game.addShip(player, "SH1", 1, player.getTerritoryStartX(), 3);
+            }
+            game.startGame();
+            game.hitShip(game.getBoard().getPlayers().get(0), 2, 3);
+            game.hitShip(game.getBoard().getPlayers().get(2), 7, 7);
+        }
+
+        Game replayed = JournalReplay.replay(file);
+
+        assertEquals(4, replayed.getBoard().getPlayers().size());
+        assertEquals("SH1_D", replayed.getBoard().getShipAt(6, 3).getId());
+        assertEquals(0, replayed.getBoard().getPlayers().get(1).getAliveShipCount());
+        assertEquals(2, replayed.getTurnCount());
+        assertEquals("D", replayed.getCurrentPlayer().getId());
+    }
+
+    @Test
+    void testOnShotFired_AfterClose_ThrowsException() throws IOException {
+        Game game = new Game("g1", new BitBoard(6));
+        GameJournal journal = GameJournal.create(tempDir.resolve("game.journal"), game);
+        journal.close();
+
+        assertThrows(IllegalStateException.class, () -> journal.onGameStarted(game));
+    }
+
+    @Test
+    void testReplay_CorruptOrTruncatedTail_StopsAtLastGoodRecord() throws IOException {
+        Path file = tempDir.resolve("game.journal");
+        Game game = new Game("g1", new BitBoard(6));
+        try (GameJournal journal = GameJournal.create(file, game)) {
+            game.setEventListener(journal);
+            game.addShip("SH1", 1, 0, 0, 3, 0);
+            game.startGame();
+            game.hitShip(game.getBoard().getPlayers().get(0), 4, 4);
+            game.hitShip(game.getBoard().getPlayers().get(1), 1, 1);
+            game.hitShip(game.getBoard().getPlayers().get(0), 5, 5);
+        }
+        long lastRecord = GameJournal.HEADER_SIZE + 4L * GameJournal.RECORD_SIZE;
+
+        // A torn write: the last record's coordinates made it to disk, its checksum did not
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, 3), lastRecord + GameJournal.FIELDS_OFFSET);
+        }
+        Game replayed = JournalReplay.replay(file);
+        assertEquals(2, replayed.getTurnCount());
+        assertFalse(replayed.getBoard().isHit(3, 5));
+        assertTrue(replayed.getBoard().isHit(1, 1));
+
+        // A file cut off halfway through the third shot
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(lastRecord - GameJournal.RECORD_SIZE / 2);
+        }
+        assertEquals(1, JournalReplay.replay(file).getTurnCount());
+    }
+
+    @Test
+    void testReplay_UnknownVersion_ThrowsException() throws IOException {
+        Path file = tempDir.resolve("game.journal");
+        GameJournal.create(file, new Game("g1", new BitBoard(6))).close();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(2).putShort(0, (short) 1), 4);
+        }
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> JournalReplay.replay(file));
+        assertEquals("Unsupported journal version: 1", exception.getMessage());
+    }
+
+    @Test
+    void testReplay_NotAJournal_ThrowsException() throws IOException {
+        Path file = Files.write(tempDir.resolve("garbage"), new byte[256]);
+
+        assertThrows(IllegalArgumentException.class, () -> JournalReplay.replay(file));
+    }
+}
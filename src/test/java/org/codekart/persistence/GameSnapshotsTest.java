@@ -0,0 +1,147 @@
+package org.codekart.persistence;
+
+import org.codekart.models.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSnapshotsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @EnumSource(BoardType.class)
+    void testWriteAndRead_MidGame_RestoresFullState(BoardType boardType) throws IOException {
+        Game game = midGame("g1", boardType);
+        Path file = tempDir.resolve("g1.snap");
+
+        GameSnapshots.write(game, file);
+        Game restored = GameSnapshots.read(file);
+
+        assertSameState(game, restored);
+    }
+
+    @Test
+    void testEncode_WritesExactlyEncodedSize() {
+        Game game = midGame("g1", BoardType.BITSET);
+        ByteBuffer buffer = ByteBuffer.allocate(GameSnapshots.encodedSize(game) + 16);
+
+        GameSnapshots.encode(game, buffer);
+
+        assertEquals(GameSnapshots.encodedSize(game), buffer.position());
+    }
+
+    @Test
+    void testRestoredGame_CanBePlayedToTheEnd() {
+        Game game = midGame("g1", BoardType.BITSET);
+        ByteBuffer buffer = ByteBuffer.allocate(GameSnapshots.encodedSize(game));
+        GameSnapshots.encode(game, buffer);
+        buffer.flip();
+
+        Game restored = GameSnapshots.decode(buffer);
+        Player playerA = restored.getBoard().getPlayers().get(0);
+        restored.hitShip(playerA, 4, 2);
+
+        assertTrue(restored.isGameFinished());
+        assertSame(playerA, restored.getWinner());
+    }
+
+    @Test
+    void testWriteAllAndReadAll_RoundTripsEveryGame() throws IOException {
+        List<Game> games = List.of(midGame("g1", BoardType.GRID), midGame("g2", BoardType.BITSET),
+                midGame("g3", BoardType.SPARSE));
+        Path file = tempDir.resolve("checkpoint.snap");
+
+        GameSnapshots.writeAll(games, file);
+        List<Game> restored = GameSnapshots.readAll(file);
+
+        assertEquals(3, restored.size());
+        assertSameState(games.get(0), restored.get(0));
+        assertSameState(games.get(1), restored.get(1));
+        assertSameState(games.get(2), restored.get(2));
+    }
+
+    @Test
+    void testWrite_WhileAnotherThreadFires_RestoresAWholeTurn() throws Exception {
+        Game game = new Game("g1", BoardType.GRID.create(64));
+        game.addShip("SH1", 2, 20, 20, 50, 50);
+        game.startGame();
+        Player playerA = game.getBoard().getPlayers().get(0);
+        Player playerB = game.getBoard().getPlayers().get(1);
+        int moves = 640;
+        Thread shooter = new Thread(() -> {
+            for (int i = 0; i < moves; i++) {
+                game.hitShip(playerA, 32 + i / 64, i % 64);
+                game.hitShip(playerB, i / 64, i % 64);
+            }
+        });
+        Path file = tempDir.resolve("live.snap");
+        shooter.start();
+
+        int turnCount = 0;
+        while (turnCount < 2 * moves) {
+            GameSnapshots.writeAll(List.of(game, game), file);
+            for (Game restored : GameSnapshots.readAll(file)) {
+                turnCount = restored.getTurnCount();
+                assertEquals(turnCount, restored.spectate().getHitCount());
+            }
+        }
+        shooter.join(10_000);
+    }
+
+    @Test
+    void testDecode_Garbage_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshots.decode(ByteBuffer.allocate(64)));
+    }
+
+    /**
+     * Player A has hit three of the four cells of B's only ship; it is A's turn.
+     */
+    private static Game midGame(String gameId, BoardType boardType) {
+        Game game = new Game(gameId, boardType.create(6));
+        game.addShip("SH1", 2, 1, 2, 4, 2);
+        game.startGame();
+        Player playerA = game.getBoard().getPlayers().get(0);
+        Player playerB = game.getBoard().getPlayers().get(1);
+        game.hitShip(playerA, 3, 1);
+        game.hitShip(playerB, 0, 1);
+        game.hitShip(playerA, 3, 2);
+        game.hitShip(playerB, 2, 5);
+        game.hitShip(playerA, 4, 1);
+        game.hitShip(playerB, 1, 1);
+        return game;
+    }
+
+    private static void assertSameState(Game expected, Game actual) {
+        Board expectedBoard = expected.getBoard();
+        Board actualBoard = actual.getBoard();
+        assertEquals(expected.getGameId(), actual.getGameId());
+        assertEquals(expectedBoard.getType(), actualBoard.getType());
+        assertEquals(expected.getState(), actual.getState());
+        assertEquals(expected.getTurnCount(), actual.getTurnCount());
+        assertEquals(expected.getCurrentPlayer().getId(), actual.getCurrentPlayer().getId());
+        for (int x = 0; x < expectedBoard.getSize(); x++) {
+            for (int y = 0; y < expectedBoard.getSize(); y++) {
+                assertEquals(expectedBoard.isHit(x, y), actualBoard.isHit(x, y));
+                assertEquals(expectedBoard.isOccupied(x, y), actualBoard.isOccupied(x, y));
+            }
+        }
+        for (int p = 0; p < 2; p++) {
+            Player expectedPlayer = expectedBoard.getPlayers().get(p);
+            Player actualPlayer = actualBoard.getPlayers().get(p);
+            assertEquals(expectedPlayer.getAliveShipCount(), actualPlayer.getAliveShipCount());
+            assertEquals(expectedPlayer.getShips().get(0).getId(), actualPlayer.getShips().get(0).getId());
+            assertEquals(expectedPlayer.getShips().get(0).getRemainingHits(),
+                    actualPlayer.getShips().get(0).getRemainingHits());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.codekart.persistence;
+
+import org.codekart.models.BoardType;
+import org.codekart.models.Fleet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScenarioReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testRead_ParsesBoardAndShips() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("scenario.csv"),
+                "# demo\r\nboard, 10, BITSET\r\n\r\nSH1,2,1,2,6,2\r\n  SH2 , 1 , 0 , 9 , 9 , 0");
+
+        Scenario scenario = ScenarioReader.read(file);
+
+        assertEquals(10, scenario.getBoardSize());
+        assertEquals(BoardType.BITSET, scenario.getBoardType());
+        Fleet fleet = scenario.getFleet();
+        assertEquals(2, fleet.size());
+        assertEquals("SH2", fleet.getShipId(1));
+        assertEquals(1, fleet.getShipSize(1));
+        assertEquals(9, fleet.getPosY1(1));
+        assertEquals(9, fleet.getPosX2(1));
+    }
+
+    @Test
+    void testRead_LinesAcrossBufferBoundaries_ReadsEveryShip() throws IOException {
+        StringBuilder csv = new StringBuilder("board,2000\n");
+        for (int i = 0; i < 20_000; i++) {
+            csv.append("SHIP-").append(i).append(",1,").append(i % 1000).append(',').append(i / 1000)
+                    .append(',').append(1000 + i % 1000).append(',').append(i / 1000).append('\n');
+        }
+        Path file = Files.writeString(tempDir.resolve("large.csv"), csv);
+
+        Fleet fleet = ScenarioReader.read(file).getFleet();
+
+        assertEquals(20_000, fleet.size());
+        assertEquals("SHIP-12345", fleet.getShipId(12345));
+        assertEquals(1345, fleet.getPosX2(12345));
+        assertEquals(12, fleet.getPosY2(12345));
+    }
+
+    @Test
+    void testRead_MalformedLine_ReportsLineNumber() throws IOException {
+        Path file = Files.write(tempDir.resolve("bad.csv"),
+                "board,6\nSH1,2,1,2,4\n".getBytes(StandardCharsets.UTF_8));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ScenarioReader.read(file));
+        assertTrue(exception.getMessage().startsWith("Line 2"));
+    }
+
+    @Test
+    void testRead_NotANumber_ThrowsException() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("bad.csv"), "SH1,2,1,x,4,2\n");
+
+        assertThrows(IllegalArgumentException.class, () -> ScenarioReader.read(file));
+    }
+}
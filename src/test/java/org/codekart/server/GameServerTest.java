@@ -0,0 +1,166 @@
+package org.codekart.server;
+
+import org.codekart.events.DeltaLog;
+import org.codekart.events.GameEventListener;
+import org.codekart.models.BoardType;
+import org.codekart.models.GameState;
+import org.codekart.models.ShotResult;
+import org.codekart.service.GameService;
+import org.codekart.service.ShuffledFiringStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameServerTest {
+
+    private GameService gameService;
+    private GameServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        gameService = new GameService(ShuffledFiringStrategy::new);
+        gameService.setEventListener(GameEventListener.NO_OP);
+        server = new GameServer(gameService);
+        server.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.close();
+    }
+
+    @Test
+    void testFire_PlaysGameOverTheWire() throws IOException {
+        try (GameClient client = new GameClient(server.getAddress())) {
+            String gameId = client.initGame(6, BoardType.BITSET);
+            assertTrue(client.addShip(gameId, "SH1", 1, 0, 0, 3, 0));
+            assertFalse(client.addShip(gameId, "SH2", 1, 0, 0, 3, 0));
+            client.startGame(gameId);
+
+            FireReply miss = client.fire(gameId, 5, 5);
+            assertEquals(ShotResult.MISS, miss.getResult());
+            assertEquals("B", miss.getCurrentPlayerId());
+            assertEquals(ShotResult.REJECTED, client.fire(gameId, 9, 9).getResult());
+            assertEquals(ShotResult.MISS, client.fire(gameId, 1, 1).getResult());
+
+            FireReply sunk = client.fire(gameId, 3, 0);
+            assertEquals(ShotResult.SUNK, sunk.getResult());
+            assertEquals(GameState.FINISHED, sunk.getGameState());
+            assertEquals(gameService.getGame(gameId).getWinner().getId(), "A");
+        }
+    }
+
+    @Test
+    void testViewBattleField_ReturnsRenderedWindow() throws IOException {
+        try (GameClient client = new GameClient(server.getAddress())) {
+            String gameId = client.initGame(200, BoardType.BITSET);
+            client.addShip(gameId, "SH1", 1, 0, 0, 100, 0);
+
+            String window = client.viewBattleField(gameId, 0, 0, 1, 2);
+            assertTrue(window.contains("PlayerA-SH1_A -- "), window);
+
+            // The whole board spans a chain of pooled buffers
+            String full = client.viewBattleField(gameId, 0, 0, 200, 200);
+            assertTrue(full.length() > 200 * 200 * 3);
+            assertTrue(full.contains("PlayerB-SH1_B -- "), full.substring(0, 100));
+        }
+    }
+
+    @Test
+    void testViewBattleField_OversizedWindow_ClippedToProtocolMaximum() throws IOException {
+        try (GameClient client = new GameClient(server.getAddress())) {
+            String gameId = client.initGame(Protocol.MAX_BOARD_SIZE, BoardType.BITSET);
+
+            String view = client.viewBattleField(gameId, 0, 0, Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+            String[] lines = view.split(System.lineSeparator());
+            // Header line plus one line per row
+            assertEquals(Protocol.MAX_VIEW_SIZE + 1, lines.length);
+            assertEquals(Protocol.MAX_VIEW_SIZE * "-- ".length(), lines[1].length());
+
+            // 1600 squares labelled with a 1000-character ship id run past the byte limit
+            assertTrue(client.addShip(gameId, "S".repeat(1000), 40, 20, 20, 600, 20));
+            IllegalStateException tooLarge = assertThrows(IllegalStateException.class,
+                    () -> client.viewBattleField(gameId, 0, 0, 40, 40));
+            assertTrue(tooLarge.getMessage().contains("smaller window"), tooLarge.getMessage());
+            assertNotNull(client.initGame(6, BoardType.GRID));
+        }
+    }
+
+    @Test
+    void testRequest_UnknownGame_ReturnsErrorAndKeepsConnection() throws IOException {
+        try (GameClient client = new GameClient(server.getAddress())) {
+            IllegalStateException exception = assertThrows(IllegalStateException.class,
+                    () -> client.startGame("missing"));
+            assertTrue(exception.getMessage().contains("missing"));
+
+            assertNotNull(client.initGame(6, BoardType.GRID));
+        }
+    }
+
+    @Test
+    void testInit_OversizedBoardOrUnknownType_ReturnsError() throws IOException {
+        try (GameClient client = new GameClient(server.getAddress())) {
+            IllegalStateException tooLarge = assertThrows(IllegalStateException.class,
+                    () -> client.initGame(Protocol.MAX_BOARD_SIZE + 2, BoardType.GRID));
+            assertTrue(tooLarge.getMessage().contains(String.valueOf(Protocol.MAX_BOARD_SIZE)));
+            assertEquals(0, gameService.getGameCount());
+
+            ByteBuffer request = ByteBuffer.allocate(4 + 1 + 4 + 1);
+            request.putInt(6).put(Protocol.INIT).putInt(6).put((byte) 9);
+            ArrayDeque<ByteBuffer> frame = new ArrayDeque<>();
+            server.handle(request.flip().position(4).slice(), frame);
+            ByteBuffer response = frame.getFirst().position(4);
+            assertEquals(Protocol.ERROR, response.get());
+            assertEquals("Unknown board type 9", Protocol.getString(response));
+
+            assertNotNull(client.initGame(Protocol.MAX_BOARD_SIZE, BoardType.BITSET));
+        }
+    }
+
+    @Test
+    void testLoadGenerator_FinishesEveryGame() throws Exception {
+        LoadGenerator.Report report = LoadGenerator.run(server.getAddress(), 200, 4, 8);
+
+        assertEquals(200, report.getGames());
+        assertEquals(200, gameService.getMetrics().getGamesFinished());
+        assertEquals(report.getShots(), gameService.getMetrics().getShots());
+    }
+
+    @Test
+    void testReadDeltas_ResumesFromVersion() throws IOException {
+        try (GameClient client = new GameClient(server.getAddress())) {
+            String gameId = client.initGame(6, BoardType.BITSET);
+            client.addShip(gameId, "SH1", 1, 0, 0, 3, 0);
+            client.startGame(gameId);
+            client.fire(gameId, 5, 5);
+
+            List<Byte> types = new ArrayList<>();
+            long version = client.readDeltas(gameId, 0, (v, type, player, a, b, c) -> types.add(type));
+            assertEquals(List.of(DeltaLog.STARTED, DeltaLog.MISS, DeltaLog.TURN), types);
+
+            client.fire(gameId, 0, 0);
+            types.clear();
+            List<Long> versions = new ArrayList<>();
+            long resumed = client.readDeltas(gameId, version, (v, type, player, a, b, c) -> {
+                types.add(type);
+                versions.add(v);
+            });
+            assertEquals(List.of(DeltaLog.HIT, DeltaLog.SUNK, DeltaLog.GAME_OVER), types);
+            assertEquals(List.of(4L, 5L, 6L), versions);
+            assertEquals(6, resumed);
+            assertEquals(6, client.readDeltas(gameId, 6, (v, type, player, a, b, c) -> fail()));
+            assertThrows(IllegalStateException.class, () -> client.readDeltas(gameId, 7, (v, type, player, a, b, c) -> { }));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.codekart.service;
+
+import org.codekart.models.ShotResult;
+import org.codekart.util.PackedCoordinates;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DensityFiringStrategyTest {
+
+    @Test
+    void testGetPackedStrikeCoordinates_CoversOpponentTerritoryOnce() {
+        DensityFiringStrategy strategy = new DensityFiringStrategy(42L, 2, 1);
+        Set<Long> targets = new HashSet<>();
+
+        for (int i = 0; i < 18; i++) {
+            long target = strategy.getPackedStrikeCoordinates("B", 6);
+            int x = PackedCoordinates.x(target);
+            int y = PackedCoordinates.y(target);
+            assertTrue(x >= 0 && x < 3, "x outside Player A's territory: " + x);
+            assertTrue(y >= 0 && y < 6, "y outside the board: " + y);
+            assertTrue(targets.add(target), "duplicate target: " + x + "," + y);
+            strategy.onShotResult("B", x, y, ShotResult.MISS, 0);
+        }
+
+        assertThrows(IllegalStateException.class, () -> strategy.getPackedStrikeCoordinates("B", 6));
+    }
+
+    @Test
+    void testOnShotResult_Hit_TargetsAroundWoundedShip() {
+        DensityFiringStrategy strategy = new DensityFiringStrategy(7L, 3);
+        long first = strategy.getPackedStrikeCoordinates("A", 10);
+        int hitX = PackedCoordinates.x(first);
+        int hitY = PackedCoordinates.y(first);
+        strategy.onShotResult("A", hitX, hitY, ShotResult.HIT, 0);
+
+        // Two misses cannot rule out all nine 3x3 placements over the hit
+        for (int i = 0; i < 2; i++) {
+            long target = strategy.getPackedStrikeCoordinates("A", 10);
+            int x = PackedCoordinates.x(target);
+            int y = PackedCoordinates.y(target);
+            assertTrue(Math.abs(x - hitX) <= 2 && Math.abs(y - hitY) <= 2,
+                    "shot at " + x + "," + y + " cannot belong to the ship hit at " + hitX + "," + hitY);
+            strategy.onShotResult("A", x, y, ShotResult.MISS, 0);
+        }
+    }
+
+    @Test
+    void testReset_StartsOverWithFullDensity() {
+        DensityFiringStrategy strategy = new DensityFiringStrategy(3L, 2);
+        long first = strategy.getPackedStrikeCoordinates("A", 8);
+        strategy.onShotResult("A", PackedCoordinates.x(first), PackedCoordinates.y(first), ShotResult.HIT, 0);
+
+        strategy.reset();
+
+        // A fresh map favours the centre of the territory
+        long target = strategy.getPackedStrikeCoordinates("A", 8);
+        int x = PackedCoordinates.x(target);
+        int y = PackedCoordinates.y(target);
+        assertTrue(x >= 4 && x < 8 && y >= 1 && y <= 6, "unexpected opening shot " + x + "," + y);
+    }
+
+    @Test
+    void testConstructor_NoShips_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, DensityFiringStrategy::new);
+    }
+}
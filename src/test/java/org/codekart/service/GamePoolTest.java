@@ -0,0 +1,48 @@
+package org.codekart.service;
+
+import org.codekart.models.BoardType;
+import org.codekart.models.Game;
+import org.codekart.models.GameState;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GamePoolTest {
+
+    @Test
+    void testAcquire_AfterRelease_ReusesResetGame() {
+        GamePool pool = new GamePool(BoardType.BITSET, "sim");
+        Game first = pool.acquire(6);
+        first.addShip("SH1", 1, 0, 0, 3, 0);
+        first.startGame();
+        first.hitShip(first.getBoard().getPlayers().get(0), 3, 0);
+        assertTrue(first.isGameFinished());
+
+        pool.release(first);
+        Game second = pool.acquire(6);
+
+        assertSame(first, second);
+        assertEquals("sim-2", second.getGameId());
+        assertEquals(GameState.INITIALIZED, second.getState());
+        assertEquals(0, second.getTurnCount());
+        assertNull(second.getWinner());
+        assertFalse(second.getBoard().isHit(3, 0));
+        assertFalse(second.getBoard().isOccupied(0, 0));
+        assertTrue(second.getBoard().getPlayers().get(1).getShips().isEmpty());
+        assertTrue(second.addShip("SH1", 1, 0, 0, 3, 0));
+    }
+
+    @Test
+    void testAcquire_DifferentSize_CreatesNewGame() {
+        GamePool pool = new GamePool(BoardType.GRID, "g", 1);
+        Game small = pool.acquire(6);
+        Game other = pool.acquire(6);
+        pool.release(small);
+        pool.release(other);
+
+        assertEquals(1, pool.getIdleCount());
+        assertEquals(8, pool.acquire(8).getBoard().getSize());
+        assertThrows(IllegalArgumentException.class,
+                () -> pool.release(new Game("x", BoardType.SPARSE.create(6))));
+    }
+}
@@ -1,16 +1,30 @@
 package org.codekart.service;
 
+import org.codekart.events.DeltaLog;
+import org.codekart.events.GameEventListener;
 import org.codekart.models.*;
+import org.codekart.persistence.GameSnapshots;
+import org.codekart.util.PackedCoordinates;
 import org.codekart.util.Pair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Supplier;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,7 +37,7 @@ class GameServiceTest {
 
     @BeforeEach
     void setUp() {
-        gameService = new GameService(firingStrategy);
+        gameService = new GameService(() -> firingStrategy);
     }
 
     @Test
@@ -33,6 +47,16 @@ class GameServiceTest {
         assertFalse(gameId.isEmpty());
     }
 
+    @Test
+    @SuppressWarnings("deprecation")
+    void testConstructor_SharedStrategy_UsedByEveryGame() {
+        GameService service = new GameService(firingStrategy);
+        service.setEventListener(GameEventListener.NO_OP);
+
+        assertNotEquals(service.initGame(6), service.initGame(6));
+        verify(firingStrategy, times(2)).getStrategyName();
+    }
+
     @Test
     void testInitGame_InvalidSize_ThrowsException() {
         assertThrows(IllegalArgumentException.class, () -> gameService.initGame(5));
@@ -66,14 +90,33 @@ class GameServiceTest {
         assertThrows(IllegalStateException.class, () -> gameService.startGame());
     }
 
+    @Test
+    void testPlayTurn_ReportsShotResultToStrategy() {
+        gameService.initGame(6);
+        gameService.addShip("SH1", 2, 1, 2, 4, 2);
+        gameService.addShip("SH2", 1, 0, 5, 5, 5);
+        gameService.startGame();
+
+        when(firingStrategy.getPackedStrikeCoordinates(anyString(), anyInt()))
+            .thenReturn(PackedCoordinates.pack(3, 1), PackedCoordinates.pack(2, 0), PackedCoordinates.pack(5, 5));
+
+        gameService.playTurn();
+        gameService.playTurn();
+        gameService.playTurn();
+
+        verify(firingStrategy).onShotResult("A", 3, 1, ShotResult.HIT, 0);
+        verify(firingStrategy).onShotResult("B", 2, 0, ShotResult.MISS, 0);
+        verify(firingStrategy).onShotResult("A", 5, 5, ShotResult.SUNK, 1);
+    }
+
     @Test
     void testPlayTurn_ValidGame_PlaysSuccessfully() {
         gameService.initGame(6);
         gameService.addShip("SH1", 2, 1, 2, 4, 2);
         gameService.startGame();
         
-        when(firingStrategy.getStrikeCoordinates(anyString(), anyInt()))
-            .thenReturn(new Pair<>(3, 0));
+        when(firingStrategy.getPackedStrikeCoordinates(anyString(), anyInt()))
+            .thenReturn(PackedCoordinates.pack(3, 0));
         
         assertDoesNotThrow(() -> gameService.playTurn());
     }
@@ -96,4 +139,186 @@ class GameServiceTest {
         gameService.initGame(6);
         assertFalse(gameService.isGameFinished());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testInitGame_TwoGames_BothStayRegistered() {
+        String first = gameService.initGame(6);
+        String second = gameService.initGame(8);
+
+        assertNotEquals(first, second);
+        assertEquals(2, gameService.getGameCount());
+        assertEquals(6, gameService.getGame(first).getBoard().getSize());
+        assertEquals(8, gameService.getGame(second).getBoard().getSize());
+        assertSame(gameService.getGame(second), gameService.getGame());
+    }
+
+    @Test
+    void testAddShip_ById_OnlyAffectsThatGame() {
+        String first = gameService.initGame(6);
+        String second = gameService.initGame(6);
+
+        assertTrue(gameService.addShip(first, "SH1", 2, 1, 2, 4, 2));
+
+        assertEquals(1, gameService.getGame(first).getBoard().getPlayers().get(0).getShips().size());
+        assertTrue(gameService.getGame(second).getBoard().getPlayers().get(0).getShips().isEmpty());
+    }
+
+    @Test
+    void testAddShip_UnknownGame_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () ->
+            gameService.addShip("missing", "SH1", 2, 1, 2, 4, 2));
+    }
+
+    @Test
+    void testEvictFinishedGames_RemovesOnlyFinishedGames() {
+        GameService service = new GameService(SystematicFiringStrategy::new);
+        String finished = service.initGame(2);
+        service.addShip(finished, "SH1", 1, 0, 0, 1, 0);
+        service.playFullGame(finished);
+        String pending = service.initGame(6);
+
+        assertEquals(1, service.evictFinishedGames());
+        assertEquals(1, service.getGameCount());
+        assertThrows(IllegalArgumentException.class, () -> service.getGame(finished));
+        assertNotNull(service.getGame(pending));
+    }
+
+    @Test
+    void testLoadScenario_ValidFile_PlacesFleet(@TempDir Path tempDir) throws IOException {
+        Path file = Files.writeString(tempDir.resolve("scenario.csv"), "board,10,BITSET\nSH1,2,1,2,6,2\nSH2,1,4,9,9,9\n");
+
+        String gameId = gameService.loadScenario(file);
+
+        Game game = gameService.getGame(gameId);
+        assertEquals(BoardType.BITSET, game.getBoard().getType());
+        assertEquals(2, game.getBoard().getPlayers().get(1).getAliveShipCount());
+    }
+
+    @Test
+    void testLoadScenario_OverlappingShips_RegistersNoGame(@TempDir Path tempDir) throws IOException {
+        Path file = Files.writeString(tempDir.resolve("scenario.csv"), "board,10\nSH1,2,1,2,6,2\nSH2,1,1,2,9,9\n");
+
+        assertThrows(IllegalArgumentException.class, () -> gameService.loadScenario(file));
+        assertEquals(0, gameService.getGameCount());
+    }
+
+    @Test
+    void testSpectate_AfterTurn_ReflectsTheShot() {
+        String gameId = gameService.initGame(6);
+        gameService.addShip(gameId, "SH1", 2, 1, 1, 4, 1);
+        gameService.startGame(gameId);
+
+        gameService.fireShot(gameId, 4, 1);
+        GameView view = gameService.spectate(gameId);
+
+        assertEquals(1, view.getTurnCount());
+        assertTrue(view.isHit(4, 1));
+        assertEquals("B", view.getCurrentPlayerId());
+    }
+
+    @Test
+    void testSnapshot_WhileAnotherThreadFires_EveryTurnIsWhole() throws InterruptedException {
+        gameService.setEventListener(GameEventListener.NO_OP);
+        String gameId = gameService.initGame(64);
+        gameService.addShip(gameId, "SH1", 2, 20, 20, 50, 50);
+        gameService.startGame(gameId);
+        int moves = 640;
+        Thread shooter = new Thread(() -> {
+            for (int i = 0; i < moves; i++) {
+                gameService.fireShot(gameId, 32 + i / 64, i % 64);
+                gameService.fireShot(gameId, i / 64, i % 64);
+            }
+        });
+        shooter.start();
+
+        int turnCount = 0;
+        while (turnCount < 2 * moves) {
+            Game restored = GameSnapshots.decode(gameService.snapshot(gameId));
+            turnCount = restored.getTurnCount();
+            assertEquals(turnCount, restored.spectate().getHitCount());
+        }
+        shooter.join(10_000);
+    }
+
+    @Test
+    void testPlayFullGame_FourPlayers_EndsWithOneSurvivor() {
+        for (Supplier<FiringStrategy> strategy : List.<Supplier<FiringStrategy>>of(RandomFiringStrategy::new,
+                SystematicFiringStrategy::new, () -> new ShuffledFiringStrategy(7),
+                () -> new DensityFiringStrategy(7, 1, 2), GameServiceTest::twoPlayerOnlyStrategy)) {
+            GameService service = new GameService(strategy);
+            service.setEventListener(GameEventListener.NO_OP);
+            String gameId = service.initGame(12, BoardType.BITSET, 4);
+            Game game = service.getGame(gameId);
+            for (Player player : game.getBoard().getPlayers()) {
+                assertTrue(game.addShip(player, "SH1", 1, player.getTerritoryStartX(), 0));
+                assertTrue(game.addShip(player, "SH2", 2, player.getTerritoryStartX() + 1, 6));
+            }
+
+            service.playFullGame(gameId);
+
+            long survivors = game.getBoard().getPlayers().stream().filter(Player::hasShipsAlive).count();
+            assertEquals(1, survivors, strategy.get().getStrategyName());
+            assertTrue(game.getWinner().hasShipsAlive());
+        }
+    }
+
+    @Test
+    void testPlayTurn_HugeSparseBoard_TracksShotsSparsely() {
+        for (Supplier<FiringStrategy> strategy : List.<Supplier<FiringStrategy>>of(RandomFiringStrategy::new,
+                SystematicFiringStrategy::new)) {
+            GameService service = new GameService(strategy);
+            service.setEventListener(GameEventListener.NO_OP);
+            String gameId = service.initGame(100_000, BoardType.SPARSE);
+            assertTrue(service.addShip(gameId, "SH1", 3, 1, 1, 50_001, 1));
+            service.startGame(gameId);
+
+            for (int i = 0; i < 100; i++) {
+                service.playTurn(gameId);
+            }
+
+            assertEquals(100, service.getGame(gameId).getTurnCount(), strategy.get().getStrategyName());
+        }
+
+        GameService shuffled = new GameService(() -> new ShuffledFiringStrategy(7));
+        shuffled.setEventListener(GameEventListener.NO_OP);
+        String gameId = shuffled.initGame(100_000, BoardType.SPARSE);
+        shuffled.addShip(gameId, "SH1", 3, 1, 1, 50_001, 1);
+        shuffled.startGame(gameId);
+        assertThrows(IllegalArgumentException.class, () -> shuffled.playTurn(gameId));
+    }
+
+    @Test
+    void testReadDeltas_WholeGame_NeverRequiresSnapshot() {
+        GameService service = new GameService(SystematicFiringStrategy::new);
+        service.setEventListener(GameEventListener.NO_OP);
+        String gameId = service.initGame(20, BoardType.BITSET);
+        service.addShip(gameId, "SH1", 1, 9, 19, 19, 19);
+        service.playFullGame(gameId);
+
+        ByteBuffer out = ByteBuffer.allocate(DeltaLog.capacityFor(20) * DeltaLog.RECORD_SIZE);
+        long version = service.readDeltas(gameId, 0, out);
+        assertTrue(version > DeltaLog.DEFAULT_CAPACITY, "version " + version);
+        assertEquals(service.getDeltaVersion(gameId), version);
+
+        service.setDeltaLogCapacity(4);
+        String small = service.initGame(20, BoardType.BITSET);
+        service.addShip(small, "SH1", 1, 9, 19, 19, 19);
+        service.playFullGame(small);
+        assertEquals(DeltaLog.SNAPSHOT_REQUIRED, service.readDeltas(small, 0, out.clear()));
+    }
+
+    // Only implements the two-player entry point, so free-for-all games use the default
+    private static FiringStrategy twoPlayerOnlyStrategy() {
+        return new FiringStrategy() {
+            @Override
+            public Pair<Integer, Integer> getStrikeCoordinates(String playerId, int boardSize) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public String getStrategyName() {
+                return "Two-player only";
+            }
+        };
+    }
+}
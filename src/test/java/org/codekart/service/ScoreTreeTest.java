@@ -0,0 +1,61 @@
+package org.codekart.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreTreeTest {
+
+    @Test
+    void testAdd_RandomRanges_TracksMaximumOfPlainArray() {
+        SplittableRandom random = new SplittableRandom(11);
+        int size = 37;
+        long[] expected = new long[size];
+        ScoreTree tree = new ScoreTree(size);
+        for (int i = 0; i < size; i++) {
+            expected[i] = random.nextInt(5);
+            tree.set(i, expected[i]);
+        }
+        tree.build();
+
+        for (int round = 0; round < 500; round++) {
+            int from = random.nextInt(size);
+            int to = from + 1 + random.nextInt(size - from);
+            long delta = random.nextInt(7) - 3;
+            tree.add(from, to, delta);
+            long max = Long.MIN_VALUE;
+            for (int i = from; i < to; i++) {
+                expected[i] += delta;
+            }
+            for (long score : expected) {
+                max = Math.max(max, score);
+            }
+
+            assertEquals(max, tree.max());
+            assertEquals(max, expected[tree.pick(random)]);
+        }
+    }
+
+    @Test
+    void testPick_Ties_ChoosesEveryTiedPosition() {
+        ScoreTree tree = new ScoreTree(5);
+        long[] scores = {3, 1, 3, 3, 0};
+        for (int i = 0; i < scores.length; i++) {
+            tree.set(i, scores[i]);
+        }
+        tree.build();
+        SplittableRandom random = new SplittableRandom(5);
+        int[] picks = new int[scores.length];
+
+        for (int i = 0; i < 3000; i++) {
+            picks[tree.pick(random)]++;
+        }
+
+        assertEquals(0, picks[1] + picks[4]);
+        for (int position : new int[]{0, 2, 3}) {
+            assertTrue(picks[position] > 800, "position " + position + " picked " + picks[position] + " times");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.codekart.service;
+
+import org.codekart.util.PackedCoordinates;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShuffledFiringStrategyTest {
+
+    @Test
+    void testGetPackedStrikeCoordinates_CoversOpponentTerritoryOnce() {
+        ShuffledFiringStrategy strategy = new ShuffledFiringStrategy(42L);
+        Set<Long> targets = new HashSet<>();
+
+        for (int i = 0; i < 18; i++) {
+            long target = strategy.getPackedStrikeCoordinates("A", 6);
+            int x = PackedCoordinates.x(target);
+            int y = PackedCoordinates.y(target);
+            assertTrue(x >= 3 && x < 6, "x outside Player B's territory: " + x);
+            assertTrue(y >= 0 && y < 6, "y outside the board: " + y);
+            assertTrue(targets.add(target), "duplicate target: " + x + "," + y);
+        }
+
+        assertThrows(IllegalStateException.class, () -> strategy.getPackedStrikeCoordinates("A", 6));
+    }
+
+    @Test
+    void testGetPackedStrikeCoordinates_SameSeed_SameSequence() {
+        ShuffledFiringStrategy first = new ShuffledFiringStrategy(7L);
+        ShuffledFiringStrategy second = new ShuffledFiringStrategy(7L);
+
+        for (int i = 0; i < 50; i++) {
+            assertEquals(first.getPackedStrikeCoordinates("B", 10),
+                    second.getPackedStrikeCoordinates("B", 10));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.codekart.simulation;
+
+import org.codekart.models.Fleet;
+import org.codekart.service.DensityFiringStrategy;
+import org.codekart.service.ShuffledFiringStrategy;
+import org.codekart.service.SystematicFiringStrategy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationRunnerTest {
+
+    private final SimulationRunner runner = new SimulationRunner();
+
+    @Test
+    void testRun_PlaysEveryGameAcrossWorkers() {
+        SimulationConfig config = SimulationConfig.builder()
+                .boardSize(6)
+                .fleet(new Fleet().add("SH1", 2, 1, 2, 4, 2))
+                .strategyA(ShuffledFiringStrategy::new)
+                .strategyB(SystematicFiringStrategy::new)
+                .games(500)
+                .parallelism(4)
+                .build();
+
+        SimulationResult result = runner.run(config);
+
+        assertEquals(500, result.getGames());
+        assertEquals(500, result.getWinsA() + result.getWinsB());
+        // Each side needs at least 4 hits and at most 18 shots, so a game takes 7 to 36 turns
+        assertTrue(result.getTurnPercentile(0) >= 7);
+        assertTrue(result.getTurnPercentile(100) <= 36);
+        assertTrue(result.getTurnPercentile(50) <= result.getTurnPercentile(99));
+        assertTrue(result.getMeanTurns() >= 7 && result.getMeanTurns() <= 36);
+    }
+
+    @Test
+    void testRun_DensityStrategy_FinishesFasterThanShuffled() {
+        Fleet fleet = new Fleet().add("SH1", 2, 2, 2, 7, 7).add("SH2", 3, 2, 7, 7, 2);
+        SimulationConfig.SimulationConfigBuilder config = SimulationConfig.builder()
+                .boardSize(10)
+                .fleet(fleet)
+                .games(400)
+                .parallelism(2);
+
+        SimulationResult shuffled = runner.run(config
+                .strategyA(ShuffledFiringStrategy::new)
+                .strategyB(ShuffledFiringStrategy::new)
+                .build());
+        SimulationResult density = runner.run(config
+                .strategyA(() -> new DensityFiringStrategy(2, 3))
+                .strategyB(() -> new DensityFiringStrategy(2, 3))
+                .build());
+
+        assertTrue(density.getMeanTurns() < shuffled.getMeanTurns() * 0.8,
+                "density " + density.getMeanTurns() + " vs shuffled " + shuffled.getMeanTurns());
+    }
+
+    @Test
+    void testRun_UnplaceableFleet_ThrowsException() {
+        SimulationConfig config = SimulationConfig.builder()
+                .boardSize(6)
+                .fleet(new Fleet().add("SH1", 4, 0, 0, 5, 5))
+                .strategyA(ShuffledFiringStrategy::new)
+                .strategyB(ShuffledFiringStrategy::new)
+                .games(1)
+                .parallelism(1)
+                .build();
+
+        Exception exception = assertThrows(Exception.class, () -> runner.run(config));
+        assertTrue(exception.getMessage().contains("SH1"));
+    }
+}
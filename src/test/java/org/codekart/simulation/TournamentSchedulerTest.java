@@ -0,0 +1,104 @@
+package org.codekart.simulation;
+
+import org.codekart.models.Fleet;
+import org.codekart.service.DensityFiringStrategy;
+import org.codekart.service.ShuffledFiringStrategy;
+import org.codekart.service.SystematicFiringStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentSchedulerTest {
+
+    private final TournamentScheduler scheduler = new TournamentScheduler();
+
+    private TournamentConfig.TournamentConfigBuilder config() {
+        return TournamentConfig.builder()
+                .boardSize(10)
+                .fleet(new Fleet().add("SH1", 2, 2, 2, 7, 7).add("SH2", 3, 2, 7, 7, 2))
+                .strategy("shuffled", ShuffledFiringStrategy::new)
+                .strategy("systematic", SystematicFiringStrategy::new)
+                .strategy("density", () -> new DensityFiringStrategy(2, 3));
+    }
+
+    @Test
+    void testRun_PlaysEveryPairingInRoundRobin() {
+        TournamentResult result = scheduler.run(config()
+                .gamesPerPairing(200)
+                .parallelism(4)
+                .maxActiveGames(64)
+                .turnsPerSlice(3)
+                .build());
+
+        assertEquals(3, result.getPairings().size());
+        assertEquals(600, result.getGames());
+        for (PairingResult pairing : result.getPairings()) {
+            assertEquals(200, pairing.getGames());
+            assertTrue(pairing.getMeanTurns() > 0);
+        }
+        Map<String, Long> standings = result.getStandings();
+        assertEquals(600L, standings.values().stream().mapToLong(Long::longValue).sum());
+        // The density strategy should win the clear majority of its games
+        assertTrue(standings.get("density") > 250, result.toString());
+    }
+
+    @Test
+    void testRun_SingleActiveGame_StillFinishes() {
+        TournamentResult result = scheduler.run(config()
+                .gamesPerPairing(5)
+                .parallelism(3)
+                .maxActiveGames(1)
+                .build());
+
+        assertEquals(15, result.getGames());
+    }
+
+    @Test
+    void testRun_FailingStrategy_PropagatesException() {
+        TournamentConfig config = config()
+                .strategy("broken", () -> new ShuffledFiringStrategy() {
+                    @Override
+                    public long getPackedStrikeCoordinates(String playerId, int boardSize) {
+                        throw new IllegalStateException("broken strategy");
+                    }
+                })
+                .gamesPerPairing(2)
+                .parallelism(2)
+                .build();
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> scheduler.run(config));
+        assertEquals("broken strategy", exception.getMessage());
+    }
+
+    @Test
+    void testRun_NoGames_ReturnsEmptyResult() {
+        TournamentResult result = scheduler.run(config().gamesPerPairing(0).build());
+
+        assertEquals(0, result.getGames());
+    }
+
+    @Test
+    void testRun_CallerInterrupted_ThrowsAndKeepsInterruptFlag() {
+        TournamentConfig config = config().gamesPerPairing(50).parallelism(2).build();
+
+        Thread.currentThread().interrupt();
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> scheduler.run(config));
+
+        assertTrue(Thread.interrupted());
+        assertInstanceOf(InterruptedException.class, exception.getCause());
+    }
+
+    @Test
+    void testRun_OneStrategy_ThrowsException() {
+        TournamentConfig config = TournamentConfig.builder()
+                .boardSize(10)
+                .fleet(new Fleet().add("SH1", 2, 2, 2, 7, 7))
+                .strategy("only", ShuffledFiringStrategy::new)
+                .gamesPerPairing(1)
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> scheduler.run(config));
+    }
+}